@@ -4,6 +4,7 @@ import com.rental.service.exception.*;
 import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -173,4 +174,66 @@ public class GlobalControllerAdvice {
 
     return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
   }
-}
\ No newline at end of file
+
+  /**
+   * Handle GroupUnavailableException response entity.
+   *
+   * @param ex the GroupUnavailableException
+   * @return the response entity
+   */
+  @ExceptionHandler(GroupUnavailableException.class)
+  public ResponseEntity<Map<String, Object>> handleGroupUnavailableException(GroupUnavailableException ex) {
+    Map<String, Object> body = new HashMap<>();
+    body.put("message", ex.getMessage());
+    body.put("statusCode", HttpStatus.CONFLICT.value());
+
+    return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+  }
+
+  /**
+   * Handle InvalidCursorException response entity.
+   *
+   * @param ex the InvalidCursorException
+   * @return the response entity
+   */
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidCursorException(InvalidCursorException ex) {
+    Map<String, Object> body = new HashMap<>();
+    body.put("message", ex.getMessage());
+    body.put("statusCode", HttpStatus.BAD_REQUEST.value());
+
+    return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Handle InvalidRentalPeriodException response entity.
+   *
+   * @param ex the InvalidRentalPeriodException
+   * @return the response entity
+   */
+  @ExceptionHandler(InvalidRentalPeriodException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidRentalPeriodException(InvalidRentalPeriodException ex) {
+    Map<String, Object> body = new HashMap<>();
+    body.put("message", ex.getMessage());
+    body.put("statusCode", HttpStatus.BAD_REQUEST.value());
+
+    return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Handle PasswordHashingBusyException response entity.
+   *
+   * @param ex the PasswordHashingBusyException
+   * @return the response entity
+   */
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity<Map<String, Object>> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+    Map<String, Object> body = new HashMap<>();
+    body.put("message", ex.getMessage());
+    body.put("statusCode", HttpStatus.SERVICE_UNAVAILABLE.value());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(body);
+  }
+}
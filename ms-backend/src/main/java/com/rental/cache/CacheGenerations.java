@@ -0,0 +1,39 @@
+package com.rental.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generation counters of the listing caches.
+ *
+ * <p>Listing caches include the current generation in their keys, so advancing it makes every
+ * cached page unreachable at once without scanning the cache. Stale pages are then dropped by
+ * the cache size bound and TTL.</p>
+ */
+@Component
+public class CacheGenerations {
+
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the current generation of a cache.
+   *
+   * @param cacheName the cache name
+   * @return the generation
+   */
+  public long current(String cacheName) {
+    AtomicLong generation = generations.get(cacheName);
+    return generation == null ? 0L : generation.get();
+  }
+
+  /**
+   * Moves a cache to a new generation.
+   *
+   * @param cacheName the cache name
+   */
+  public void advance(String cacheName) {
+    generations.computeIfAbsent(cacheName, name -> new AtomicLong()).incrementAndGet();
+  }
+}
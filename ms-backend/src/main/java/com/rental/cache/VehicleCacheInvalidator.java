@@ -0,0 +1,83 @@
+package com.rental.cache;
+
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the vehicle caches after a vehicle is written.
+ *
+ * <p>Only the entries of the written vehicle are evicted from {@code vehicleById} and
+ * {@code vehicleByLicensePlate}; listing pages in {@code allVehicles} are invalidated by
+ * advancing their generation. Inside a transaction the invalidation waits for the commit, so a
+ * concurrent read cannot cache the old row again.</p>
+ */
+@Component
+public class VehicleCacheInvalidator {
+
+  public static final String VEHICLE_BY_ID = "vehicleById";
+  public static final String VEHICLE_BY_LICENSE_PLATE = "vehicleByLicensePlate";
+  public static final String ALL_VEHICLES = "allVehicles";
+
+  private final CacheManager cacheManager;
+  private final CacheGenerations cacheGenerations;
+
+  /**
+   * Instantiates a new Vehicle cache invalidator.
+   *
+   * @param cacheManager     the cache manager
+   * @param cacheGenerations the cache generations
+   */
+  @Autowired
+  public VehicleCacheInvalidator(CacheManager cacheManager, CacheGenerations cacheGenerations) {
+    this.cacheManager = cacheManager;
+    this.cacheGenerations = cacheGenerations;
+  }
+
+  /**
+   * Invalidates the listing pages after a vehicle is created.
+   */
+  public void vehicleCreated() {
+    afterCommit(() -> cacheGenerations.advance(ALL_VEHICLES));
+  }
+
+  /**
+   * Invalidates the entries of a vehicle after it is updated or deleted.
+   *
+   * @param id            the vehicle id
+   * @param licensePlates the license plates the vehicle was cached under
+   */
+  public void vehicleChanged(UUID id, String... licensePlates) {
+    afterCommit(() -> {
+      evict(VEHICLE_BY_ID, id);
+      for (String licensePlate : licensePlates) {
+        evict(VEHICLE_BY_LICENSE_PLATE, licensePlate);
+      }
+      cacheGenerations.advance(ALL_VEHICLES);
+    });
+  }
+
+  private void evict(String cacheName, Object key) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null && key != null) {
+      cache.evict(key);
+    }
+  }
+
+  private static void afterCommit(Runnable invalidation) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidation.run();
+        }
+      });
+    } else {
+      invalidation.run();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.rental.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Class to configure the application caches.
+ *
+ * <p>Every cache is a bounded Caffeine cache (W-TinyLFU eviction) with its own size and TTL
+ * taken from {@link CacheSpecProperties}, and records hit, miss and eviction statistics.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+  /**
+   * Cache manager.
+   *
+   * @param properties the cache specs
+   * @return the cache manager
+   */
+  @Bean
+  public CacheManager cacheManager(CacheSpecProperties properties) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.setCaffeine(Caffeine.from(properties.defaultSpec()).recordStats());
+
+    properties.specs().forEach((name, spec) ->
+        cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build()));
+
+    return cacheManager;
+  }
+}
@@ -0,0 +1,22 @@
+package com.rental.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Caffeine specs of the application caches, bound from the {@code cache.*} properties.
+ *
+ * @param defaultSpec the spec of caches without an entry in {@code specs}
+ * @param specs       the spec of each named cache
+ */
+@ConfigurationProperties(prefix = "cache")
+public record CacheSpecProperties(
+    @DefaultValue("maximumSize=500,expireAfterWrite=10m") String defaultSpec,
+    Map<String, String> specs
+) {
+
+  public CacheSpecProperties {
+    specs = specs == null ? Map.of() : Map.copyOf(specs);
+  }
+}
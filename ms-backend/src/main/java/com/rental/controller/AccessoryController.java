@@ -2,14 +2,18 @@ package com.rental.controller;
 
 import com.rental.controller.dto.accessory.AccessoryCreationDto;
 import com.rental.controller.dto.accessory.AccessoryDto;
-import com.rental.entity.Accessory;
+import com.rental.controller.dto.page.CursorPage;
 import com.rental.service.AccessoryService;
 import com.rental.service.exception.AccessoryNotFoundException;
+import com.rental.utils.CursorUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
@@ -57,9 +61,7 @@ public class AccessoryController {
   @ApiResponse(responseCode = "404", description = "Accessory not found")
   @Cacheable(value = "accessoryCache", key = "#id")
   public AccessoryDto getAccessoryById(@PathVariable UUID id) throws AccessoryNotFoundException {
-    return AccessoryDto.fromEntity(
-        accessoryService.getAccessoryById(id)
-    );
+    return accessoryService.getAccessoryDtoById(id);
   }
 
   /**
@@ -76,11 +78,28 @@ public class AccessoryController {
   public List<AccessoryDto> getAllAccessories(
       @RequestParam(required = false, defaultValue = "0") int pageNumber,
       @RequestParam(required = false, defaultValue = "20") int pageSize) {
-    List<Accessory> paginatedAccessories = accessoryService.getAllAccessories(pageNumber, pageSize);
+    return accessoryService.getAllAccessories(pageNumber, pageSize);
+  }
 
-    return paginatedAccessories.stream()
-        .map(AccessoryDto::fromEntity)
-        .toList();
+  /**
+   * Gets accessories with keyset pagination.
+   *
+   * @param after the cursor returned by the previous page
+   * @param limit the page size
+   * @return the page of accessory DTOs
+   */
+  @GetMapping("/cursor")
+  @Operation(summary = "List accessories by cursor", description = "List accessories with cursor-based pagination")
+  @ApiResponse(responseCode = "200", description = "Page of accessories successfully retrieved")
+  @ApiResponse(responseCode = "400", description = "Invalid cursor")
+  public CursorPage<AccessoryDto> getAccessoriesByCursor(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false, defaultValue = "20") @Positive @Max(100) int limit) {
+    return CursorPage.of(
+        accessoryService.getAccessoriesAfter(CursorUtils.decode(after), limit),
+        AccessoryDto::id,
+        Function.identity()
+    );
   }
 
   /**
@@ -3,6 +3,7 @@ package com.rental.controller;
 import com.rental.controller.dto.auth.AuthRequest;
 import com.rental.controller.dto.auth.ErrorResponse;
 import com.rental.controller.dto.auth.TokenResponse;
+import com.rental.entity.Person;
 import com.rental.service.validations.IPasswordValidator;
 import com.rental.service.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,7 +53,9 @@ public class AuthController {
     var user = new UsernamePasswordAuthenticationToken(req.email(), req.password());
     var auth = authenticationManager.authenticate(user);
 
-    var token = tokenService.generateToken(auth.getName());
+    var token = auth.getPrincipal() instanceof Person person
+        ? tokenService.generateToken(person)
+        : tokenService.generateToken(auth.getName());
 
     return ResponseEntity.ok(new TokenResponse(token));
   }
@@ -0,0 +1,64 @@
+package com.rental.controller;
+
+import com.rental.controller.dto.cache.CacheStatsResponse;
+import com.rental.controller.dto.cache.TokenVerificationStats;
+import com.rental.service.CacheStatsService;
+import com.rental.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The type Cache controller.
+ */
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+
+  private final CacheStatsService cacheStatsService;
+  private final TokenService tokenService;
+
+  /**
+   * Instantiates a new Cache controller.
+   *
+   * @param cacheStatsService the cache stats service
+   * @param tokenService      the token service
+   */
+  @Autowired
+  public CacheController(CacheStatsService cacheStatsService, TokenService tokenService) {
+    this.cacheStatsService = cacheStatsService;
+    this.tokenService = tokenService;
+  }
+
+  /**
+   * Gets the statistics of every cache.
+   *
+   * @return the cache statistics
+   */
+  @GetMapping("/stats")
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @Operation(summary = "Get cache statistics", description = "Size, hits, misses and evictions of every cache")
+  @ApiResponse(responseCode = "200", description = "Cache statistics successfully retrieved")
+  public List<CacheStatsResponse> getCacheStats() {
+    return cacheStatsService.getStats();
+  }
+
+  /**
+   * Gets the statistics of the verified token cache.
+   *
+   * @return the token verification statistics
+   */
+  @GetMapping("/stats/tokens")
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @Operation(summary = "Get token cache statistics",
+      description = "Hits, misses and verification latency of the verified JWT cache")
+  @ApiResponse(responseCode = "200", description = "Token cache statistics successfully retrieved")
+  public TokenVerificationStats getTokenStats() {
+    return tokenService.getVerificationStats();
+  }
+}
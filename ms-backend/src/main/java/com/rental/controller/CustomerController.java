@@ -2,14 +2,21 @@ package com.rental.controller;
 
 import com.rental.controller.dto.customer.CustomerRequest;
 import com.rental.controller.dto.customer.CustomerResponse;
-import com.rental.entity.Customer;
+import com.rental.controller.dto.page.CursorPage;
+import com.rental.repository.projection.CustomerReservationRow;
 import com.rental.service.customer.ICustomerService;
 import com.rental.service.exception.CustomerNotFoundException;
+import com.rental.service.reservation.IReservationService;
+import com.rental.utils.CursorUtils;
+import com.rental.utils.CursorUtils.CreatedAtPosition;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,10 +32,12 @@ import org.springframework.web.bind.annotation.*;
 public class CustomerController {
 
     private final ICustomerService customerService;
+    private final IReservationService reservationService;
 
     @Autowired
-    public CustomerController(ICustomerService customerService) {
+    public CustomerController(ICustomerService customerService, IReservationService reservationService) {
         this.customerService = customerService;
+        this.reservationService = reservationService;
     }
 
     /**
@@ -58,9 +67,7 @@ public class CustomerController {
     @ApiResponse(responseCode = "200", description = "Customer successfully retrieved")
     @ApiResponse(responseCode = "404", description = "Customer not found")
     public CustomerResponse getCustomerById(@PathVariable UUID id) throws CustomerNotFoundException {
-        var customer = customerService.getById(id);
-
-        return CustomerResponse.fromEntity(customer);
+        return customerService.getResponseById(id);
     }
 
     /**
@@ -115,10 +122,54 @@ public class CustomerController {
             @RequestParam(required = false, defaultValue = "0") int pageNumber,
             @RequestParam(required = false, defaultValue = "20") int pageSize
     ) {
-        List<Customer> customerList = customerService.getAll(pageNumber, pageSize);
+        return customerService.getAll(pageNumber, pageSize);
+    }
 
-        return customerList.stream()
-                .map(CustomerResponse::fromEntity)
-                .toList();
+    /**
+     * Gets customers with keyset pagination.
+     *
+     * @param after the cursor returned by the previous page
+     * @param limit the page size
+     * @return the page of customer DTOs
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "List customers by cursor", description = "List customers with cursor-based pagination")
+    @ApiResponse(responseCode = "200", description = "Page of customers successfully retrieved")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    public CursorPage<CustomerResponse> getCustomersByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false, defaultValue = "20") @Positive @Max(100) int limit
+    ) {
+        return CursorPage.of(
+                customerService.getAllAfter(CursorUtils.decode(after), limit),
+                CustomerResponse::id,
+                Function.identity()
+        );
+    }
+
+    /**
+     * Gets the reservation history of a customer with keyset pagination, newest first.
+     *
+     * @param id    the UUID of the customer
+     * @param after the cursor returned by the previous page
+     * @param limit the page size
+     * @return the page of reservations
+     * @throws CustomerNotFoundException if no customer with the given ID is found
+     */
+    @GetMapping("/{id}/reservations")
+    @Operation(summary = "List customer reservations", description = "List the reservations of a customer, newest first, with cursor-based pagination")
+    @ApiResponse(responseCode = "200", description = "Page of reservations successfully retrieved")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @ApiResponse(responseCode = "404", description = "Customer not found")
+    public CursorPage<CustomerReservationRow> getCustomerReservations(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false, defaultValue = "20") @Positive @Max(100) int limit
+    ) throws CustomerNotFoundException {
+        return CursorPage.keyedBy(
+                reservationService.getCustomerReservations(id, CursorUtils.decodeCreatedAt(after), limit),
+                row -> CursorUtils.encode(new CreatedAtPosition(row.createdAt(), row.id())),
+                Function.identity()
+        );
     }
 }
@@ -1,18 +1,25 @@
 package com.rental.controller;
 
 import com.rental.controller.dto.group.GroupCreationDto;
+import com.rental.controller.dto.page.CursorPage;
 import com.rental.controller.dto.group.GroupDto;
 import com.rental.entity.Group;
 import com.rental.service.GroupService;
 import com.rental.service.exception.GroupNotFoundException;
+import com.rental.utils.CursorUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -68,9 +75,7 @@ public class GroupController {
   })
   @Cacheable(value = "groupById", key = "#id")
   public GroupDto getGroupById(@PathVariable UUID id) throws GroupNotFoundException {
-    return GroupDto.fromEntity(
-        groupService.getGroupById(id)
-    );
+    return groupService.getGroupDtoById(id);
   }
 
   /**
@@ -91,10 +96,32 @@ public class GroupController {
       @RequestParam(required = false, defaultValue = "0") int pageNumber,
       @RequestParam(required = false, defaultValue = "20") int pageSize
   ) {
-    List<Group> paginatedGroups = groupService.getAllGroups(pageNumber, pageSize);
-    return paginatedGroups.stream()
-        .map(GroupDto::fromEntity)
-        .toList();
+    return groupService.getAllGroups(pageNumber, pageSize);
+  }
+
+  /**
+   * Gets groups with keyset pagination.
+   *
+   * @param after the cursor returned by the previous page
+   * @param limit the page size
+   * @return the page of groups
+   */
+  @GetMapping("/cursor")
+  @Operation(summary = "Get groups by cursor", description = "Retrieve groups with cursor-based pagination")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Groups retrieved"),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor",
+          content = @Content(mediaType = "application/json"))
+  })
+  public CursorPage<GroupDto> getGroupsByCursor(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false, defaultValue = "20") @Positive @Max(100) int limit
+  ) {
+    return CursorPage.of(
+        groupService.getGroupsAfter(CursorUtils.decode(after), limit),
+        GroupDto::id,
+        Function.identity()
+    );
   }
 
   /**
@@ -119,6 +146,34 @@ public class GroupController {
     );
   }
 
+  /**
+   * Create groups in bulk.
+   *
+   * @param groupCreationDtos the group creation dtos
+   * @return the group dtos
+   */
+  @PostMapping("/bulk")
+  @ResponseStatus(HttpStatus.CREATED)
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @Operation(summary = "Create groups in bulk", description = "Create up to 1000 groups in one request")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "201", description = "Groups created"),
+      @ApiResponse(responseCode = "400", description = "Invalid input",
+          content = @Content(mediaType = "application/json"))
+  })
+  @CacheEvict(value = {"groupById", "allGroups"}, allEntries = true)
+  public List<GroupDto> createGroups(
+      @RequestBody @NotEmpty @Size(max = 1000) List<@Valid GroupCreationDto> groupCreationDtos
+  ) {
+    List<Group> groups = groupCreationDtos.stream()
+        .map(GroupCreationDto::toEntity)
+        .toList();
+
+    return groupService.createGroups(groups).stream()
+        .map(GroupDto::fromEntity)
+        .toList();
+  }
+
   /**
    * Update group dto.
    *
@@ -1,52 +1,121 @@
 package com.rental.controller;
 
+import com.rental.controller.dto.page.CursorPage;
+import com.rental.controller.dto.reservation.AvailabilityResponse;
+import com.rental.controller.dto.reservation.QuoteRequest;
+import com.rental.controller.dto.reservation.QuoteResponse;
 import com.rental.controller.dto.reservation.ReservationRequest;
 import com.rental.controller.dto.reservation.ReservationResponse;
 
+import com.rental.service.exception.AccessoryNotFoundException;
 import com.rental.service.exception.CustomerNotFoundException;
 import com.rental.service.exception.GroupNotFoundException;
+import com.rental.service.exception.GroupUnavailableException;
 import com.rental.service.exception.ReservationNotFoundException;
+import com.rental.service.pricing.PricingEngine;
 import com.rental.service.reservation.IReservationService;
+import com.rental.service.reservation.ReservationExportService;
+import com.rental.utils.CursorUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/reservation")
+@Validated
 public class ReservationController {
 
   private final IReservationService reservationService;
+  private final ReservationExportService reservationExportService;
+  private final PricingEngine pricingEngine;
 
   @Autowired
-  public ReservationController(IReservationService reservationService) {
+  public ReservationController(IReservationService reservationService,
+                               ReservationExportService reservationExportService,
+                               PricingEngine pricingEngine) {
     this.reservationService = reservationService;
+    this.reservationExportService = reservationExportService;
+    this.pricingEngine = pricingEngine;
   }
 
   @PostMapping
   @ResponseStatus(HttpStatus.CREATED)
+  @CacheEvict(value = "allReservations", allEntries = true)
   @Operation(summary = "Create Reservation", description = "Create a new reservation with in-store payment.")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "201", description = "Reservation created successfully"),
-          @ApiResponse(responseCode = "404", description = "Group or Person not found") })
+          @ApiResponse(responseCode = "404", description = "Group or Person not found"),
+          @ApiResponse(responseCode = "409", description = "No vehicles of the group available for the period") })
   public ReservationResponse createReservation(
           @RequestBody @Valid ReservationRequest request
-  ) throws CustomerNotFoundException, GroupNotFoundException {
+  ) throws CustomerNotFoundException, GroupNotFoundException, GroupUnavailableException {
     var newReservation = reservationService.createReservation(request);
 
     return ReservationResponse.fromEntity(newReservation);
   }
 
+  @GetMapping("/availability")
+  @Operation(summary = "Get Group Availability", description = "Count the vehicles of a group free for a rental period.")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Availability fetched successfully"),
+          @ApiResponse(responseCode = "400", description = "Invalid rental period"),
+          @ApiResponse(responseCode = "404", description = "Group not found") })
+  public AvailabilityResponse getAvailability(
+          @RequestParam UUID groupId,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime pickupDateTime,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime returnDateTime
+  ) throws GroupNotFoundException {
+    return reservationService.getAvailability(groupId, pickupDateTime, returnDateTime);
+  }
+
+  @PostMapping("/quote")
+  @Operation(summary = "Quote Reservation", description = "Price a rental period from the cached rates, without reserving.")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Quote calculated successfully"),
+          @ApiResponse(responseCode = "400", description = "Invalid rental period"),
+          @ApiResponse(responseCode = "404", description = "Group or Accessory not found") })
+  public QuoteResponse quoteReservation(
+          @RequestBody @Valid QuoteRequest request
+  ) throws GroupNotFoundException, AccessoryNotFoundException {
+    var quote = pricingEngine.quote(
+            request.groupId(), request.accessoryIds(), request.pickupDateTime(), request.returnDateTime());
+
+    return QuoteResponse.of(request.groupId(), quote);
+  }
+
+  @PutMapping("/{id}/cancel")
+  @CacheEvict(value = "allReservations", allEntries = true)
+  @Operation(summary = "Cancel Reservation", description = "Cancel a reservation and free its vehicle.")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Reservation cancelled successfully"),
+          @ApiResponse(responseCode = "404", description = "Reservation not found") })
+  public ReservationResponse cancelReservation(@PathVariable UUID id) throws ReservationNotFoundException {
+    return ReservationResponse.fromEntity(reservationService.cancelReservation(id));
+  }
+
   @GetMapping("/{id}")
   @Operation(summary = "Get Reservation By ID", description = "Fetch a reservation by its ID.")
   @ApiResponses(value = {
@@ -65,10 +134,39 @@ public class ReservationController {
           @RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
           @RequestParam(value = "pageSize", defaultValue = "10") int pageSize
   ) {
-    var list = reservationService.getAllReservations(pageNumber, pageSize);
+    return reservationService.getAllReservations(pageNumber, pageSize);
+  }
+
+  @GetMapping("/cursor")
+  @Operation(summary = "Get Reservations by Cursor", description = "Fetch reservations with cursor-based pagination.")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Page of reservations fetched successfully"),
+          @ApiResponse(responseCode = "400", description = "Invalid cursor") })
+  public CursorPage<ReservationResponse> getReservationsByCursor(
+          @RequestParam(value = "after", required = false) String after,
+          @RequestParam(value = "limit", defaultValue = "10") @Positive @Max(100) int limit
+  ) {
+    return CursorPage.of(
+            reservationService.getReservationsAfter(CursorUtils.decode(after), limit),
+            ReservationResponse::id,
+            Function.identity()
+    );
+  }
+
+  @GetMapping("/export")
+  @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER')")
+  @Operation(summary = "Export Reservations", description = "Stream every reservation as NDJSON or CSV.")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Reservations streamed successfully") })
+  public ResponseEntity<StreamingResponseBody> exportReservations(
+          @RequestParam(value = "format", defaultValue = "NDJSON") ReservationExportService.Format format
+  ) {
+    StreamingResponseBody body = out -> reservationExportService.export(format, out);
 
-    return list.stream()
-            .map(ReservationResponse::fromEntity)
-            .toList();
+    return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"reservations." + format.name().toLowerCase() + "\"")
+            .body(body);
   }
 }
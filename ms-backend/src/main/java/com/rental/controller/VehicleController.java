@@ -1,18 +1,25 @@
 package com.rental.controller;
 
+import com.rental.controller.dto.page.CursorPage;
 import com.rental.controller.dto.vehicle.VehicleCreationDto;
 import com.rental.controller.dto.vehicle.VehicleDto;
-import com.rental.entity.Vehicle;
+import com.rental.controller.dto.vehicle.VehicleImportReport;
+import com.rental.service.VehicleImportService;
 import com.rental.service.VehicleService;
 import com.rental.service.exception.VehicleNotFoundException;
+import com.rental.utils.CursorUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,15 +35,18 @@ import org.springframework.web.bind.annotation.*;
 public class VehicleController {
 
   private final VehicleService vehicleService;
+  private final VehicleImportService vehicleImportService;
 
   /**
    * Instantiates a new Vehicle controller.
    *
-   * @param vehicleService the vehicle service
+   * @param vehicleService       the vehicle service
+   * @param vehicleImportService the vehicle import service
    */
   @Autowired
-  public VehicleController(VehicleService vehicleService) {
+  public VehicleController(VehicleService vehicleService, VehicleImportService vehicleImportService) {
     this.vehicleService = vehicleService;
+    this.vehicleImportService = vehicleImportService;
   }
 
   /**
@@ -54,7 +64,7 @@ public class VehicleController {
   })
   @Cacheable(value = "vehicleById", key = "#id")
   public VehicleDto getVehicleById(@PathVariable UUID id) throws VehicleNotFoundException {
-    return VehicleDto.fromEntity(vehicleService.getVehicleById(id));
+    return vehicleService.getVehicleDtoById(id);
   }
 
   @GetMapping("/license-plate")
@@ -65,9 +75,7 @@ public class VehicleController {
   })
   @Cacheable(value = "vehicleByLicensePlate", key = "#licensePlate")
   public VehicleDto getVehicleByLicensePlate(@RequestBody @Valid String licensePlate) throws VehicleNotFoundException {
-    return VehicleDto.fromEntity(
-            vehicleService.getVehicleByLicensePlate(licensePlate)
-    );
+    return vehicleService.getVehicleByLicensePlate(licensePlate);
   }
 
   /**
@@ -82,12 +90,35 @@ public class VehicleController {
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "List of vehicles fetched successfully")
   })
-  @Cacheable(value = "allVehicles", key = "#pageNumber + '-' + #pageSize")
+  @Cacheable(value = "allVehicles",
+      key = "@cacheGenerations.current('allVehicles') + '-' + #pageNumber + '-' + #pageSize")
   public List<VehicleDto> getAllVehicles(
       @RequestParam(required = false, defaultValue = "0") int pageNumber,
       @RequestParam(required = false, defaultValue = "20") int pageSize) {
-    List<Vehicle> paginatedVehicles = vehicleService.getAllVehicles(pageNumber, pageSize);
-    return paginatedVehicles.stream().map(VehicleDto::fromEntity).toList();
+    return vehicleService.getAllVehicles(pageNumber, pageSize);
+  }
+
+  /**
+   * Gets vehicles with keyset pagination.
+   *
+   * @param after the cursor returned by the previous page
+   * @param limit the page size
+   * @return the page of vehicles
+   */
+  @GetMapping("/cursor")
+  @Operation(summary = "Get Vehicles by Cursor", description = "Fetch vehicles with cursor-based pagination.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Page of vehicles fetched successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor")
+  })
+  public CursorPage<VehicleDto> getVehiclesByCursor(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false, defaultValue = "20") @Positive @Max(100) int limit) {
+    return CursorPage.of(
+        vehicleService.getVehiclesAfter(CursorUtils.decode(after), limit),
+        VehicleDto::id,
+        Function.identity()
+    );
   }
 
   /**
@@ -100,13 +131,42 @@ public class VehicleController {
   @ResponseStatus(HttpStatus.CREATED)
   @Operation(summary = "Create Vehicle", description = "Create a new vehicle.")
   @ApiResponse(responseCode = "201", description = "Vehicle created successfully")
-  @CacheEvict(value = {"vehicleById", "allVehicles"}, allEntries = true)
   public VehicleDto createVehicle(@RequestBody @Valid VehicleCreationDto vehicleCreationDto) {
     return VehicleDto.fromEntity(
             vehicleService.createVehicle(vehicleCreationDto.toEntity())
     );
   }
 
+  /**
+   * Import vehicles from a CSV body.
+   *
+   * @param body the CSV body, with a header line naming the columns
+   * @return the import report
+   * @throws IOException the io exception
+   */
+  @PostMapping(value = "/bulk", consumes = "text/csv")
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @Operation(summary = "Import Vehicles from CSV", description = "Create vehicles from a streamed CSV body.")
+  @ApiResponse(responseCode = "200", description = "Import finished, with the rows that were rejected")
+  public VehicleImportReport importVehiclesFromCsv(InputStream body) throws IOException {
+    return vehicleImportService.importCsv(body);
+  }
+
+  /**
+   * Import vehicles from an NDJSON body.
+   *
+   * @param body the body, with one vehicle object per line
+   * @return the import report
+   * @throws IOException the io exception
+   */
+  @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @Operation(summary = "Import Vehicles from NDJSON", description = "Create vehicles from a streamed NDJSON body.")
+  @ApiResponse(responseCode = "200", description = "Import finished, with the rows that were rejected")
+  public VehicleImportReport importVehiclesFromNdjson(InputStream body) throws IOException {
+    return vehicleImportService.importNdjson(body);
+  }
+
   /**
    * Update vehicle.
    *
@@ -121,7 +181,6 @@ public class VehicleController {
       @ApiResponse(responseCode = "200", description = "Vehicle updated successfully"),
       @ApiResponse(responseCode = "404", description = "Vehicle not found")
   })
-  @CacheEvict(value = {"vehicleById", "allVehicles"}, allEntries = true)
   public VehicleDto updateVehicle(@RequestBody @Valid VehicleCreationDto vehicleCreationDto, @PathVariable UUID id) throws VehicleNotFoundException {
     return VehicleDto.fromEntity(
             vehicleService.updateVehicle(vehicleCreationDto.toEntity(), id)
@@ -141,7 +200,6 @@ public class VehicleController {
       @ApiResponse(responseCode = "200", description = "Vehicle deleted successfully"),
       @ApiResponse(responseCode = "404", description = "Vehicle not found")
   })
-  @CacheEvict(value = {"vehicleById", "allVehicles"}, allEntries = true)
   public VehicleDto deleteVehicle(@PathVariable UUID id) throws VehicleNotFoundException {
     return VehicleDto.fromEntity(vehicleService.deleteVehicle(id));
   }
@@ -1,20 +1,22 @@
 package com.rental.controller.dto.auth;
 
+import java.util.UUID;
+
 /**
  * The type Email dto.
  */
 public class EmailDto {
-  private String userName;
+  private UUID userId;
   private String emailTo;
   private String subject;
   private String text;
 
-  public String getUserId() {
-    return userName;
+  public UUID getUserId() {
+    return userId;
   }
 
-  public void setUserName(String userName) {
-    this.userName = userName;
+  public void setUserId(UUID userId) {
+    this.userId = userId;
   }
 
   public String getEmailTo() {
@@ -44,7 +46,7 @@ public class EmailDto {
   @Override
   public String toString() {
     return "EmailDto{" +
-        "userName=" + userName +
+        "userId=" + userId +
         ", emailTo='" + emailTo + '\'' +
         ", subject='" + subject + '\'' +
         ", text='" + text + '\'' +
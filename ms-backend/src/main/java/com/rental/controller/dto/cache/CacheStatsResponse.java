@@ -0,0 +1,13 @@
+package com.rental.controller.dto.cache;
+
+/**
+ * Usage statistics of one cache.
+ */
+public record CacheStatsResponse(
+    String name,
+    long estimatedSize,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount
+) { }
@@ -0,0 +1,13 @@
+package com.rental.controller.dto.cache;
+
+/**
+ * Usage statistics of the verified token cache.
+ */
+public record TokenVerificationStats(
+    long estimatedSize,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long verificationCount,
+    long averageVerificationMicros
+) { }
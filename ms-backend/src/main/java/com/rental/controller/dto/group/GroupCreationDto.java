@@ -22,7 +22,10 @@ public record GroupCreationDto(
     @Positive(message = "Daily rate is a positive number")
     Double dailyRate,
 
-    String imageURL
+    String imageURL,
+
+    @Positive(message = "Quantity is a positive number")
+    Integer quantity
 ) {
 
   /**
@@ -31,6 +34,6 @@ public record GroupCreationDto(
    * @return the group
    */
   public Group toEntity() {
-    return new Group(name, vehicles, dailyRate, imageURL);
+    return new Group(name, vehicles, dailyRate, imageURL, quantity);
   }
 }
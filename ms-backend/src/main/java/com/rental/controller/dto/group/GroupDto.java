@@ -13,7 +13,8 @@ public record GroupDto(
     String name,
     String vehicles,
     Double dailyRate,
-    String imageURL
+    String imageURL,
+    Integer quantity
 ) {
 
   /**
@@ -28,7 +29,8 @@ public record GroupDto(
         group.getName(),
         group.getVehicles(),
         group.getDailyRate(),
-            group.getImageURL()
+        group.getImageURL(),
+        group.getQuantity()
     );
   }
 }
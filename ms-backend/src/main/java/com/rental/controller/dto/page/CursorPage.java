@@ -0,0 +1,53 @@
+package com.rental.controller.dto.page;
+
+import com.rental.utils.CursorUtils;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+
+/**
+ * A page of items read with keyset pagination.
+ *
+ * @param items      the items of the page
+ * @param nextCursor the cursor of the next page, or null on the last page
+ * @param <T>        the item type
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor
+) {
+
+  /**
+   * Builds a cursor page from a slice, using the id of its last element as the next cursor.
+   *
+   * @param slice  the slice
+   * @param idOf   extracts the keyset id of an element
+   * @param mapper maps an element to its dto
+   * @param <E>    the element type
+   * @param <T>    the dto type
+   * @return the cursor page
+   */
+  public static <E, T> CursorPage<T> of(Slice<E> slice, Function<E, UUID> idOf, Function<E, T> mapper) {
+    return keyedBy(slice, element -> CursorUtils.encode(idOf.apply(element)), mapper);
+  }
+
+  /**
+   * Builds a cursor page from a slice, encoding its last element as the next cursor.
+   *
+   * @param slice    the slice
+   * @param cursorOf encodes the keyset position of an element
+   * @param mapper   maps an element to its dto
+   * @param <E>      the element type
+   * @param <T>      the dto type
+   * @return the cursor page
+   */
+  public static <E, T> CursorPage<T> keyedBy(Slice<E> slice, Function<E, String> cursorOf, Function<E, T> mapper) {
+    List<E> content = slice.getContent();
+    String nextCursor = slice.hasNext() && !content.isEmpty()
+        ? cursorOf.apply(content.get(content.size() - 1))
+        : null;
+
+    return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+  }
+}
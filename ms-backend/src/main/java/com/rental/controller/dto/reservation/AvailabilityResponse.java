@@ -0,0 +1,15 @@
+package com.rental.controller.dto.reservation;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Availability of a vehicle group for a rental period.
+ */
+public record AvailabilityResponse(
+    UUID groupId,
+    LocalDateTime pickupDateTime,
+    LocalDateTime returnDateTime,
+    int capacity,
+    int available
+) { }
@@ -0,0 +1,39 @@
+package com.rental.controller.dto.reservation;
+
+import com.rental.utils.RentalPeriodUtils;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reservation quote dto.
+ */
+public record QuoteRequest(
+        @NotNull(message = "Group ID is mandatory")
+        UUID groupId,
+
+        @NotNull(message = "Accessory IDs are mandatory")
+        @Size(max = 10, message = "There must be at most 10 accessory IDs")
+        List<UUID> accessoryIds,
+
+        @NotNull(message = "Pickup date and time is mandatory")
+        LocalDateTime pickupDateTime,
+
+        @NotNull(message = "Return date and time is mandatory")
+        LocalDateTime returnDateTime
+) {
+    @AssertTrue(message = "Return date and time must be after the pickup")
+    public boolean isReturnAfterPickup() {
+        return RentalPeriodUtils.isReturnAfterPickup(pickupDateTime, returnDateTime);
+    }
+
+    @AssertTrue(message = "Rentals last at most " + RentalPeriodUtils.MAX_RENTAL_DAYS
+            + " days and start within " + RentalPeriodUtils.MAX_ADVANCE_DAYS + " days")
+    public boolean isWithinRentalBounds() {
+        return RentalPeriodUtils.isWithinBounds(pickupDateTime, returnDateTime);
+    }
+}
@@ -0,0 +1,35 @@
+package com.rental.controller.dto.reservation;
+
+import com.rental.service.pricing.PriceQuote;
+import java.util.UUID;
+
+/**
+ * Price of a rental period, before any reservation is made.
+ */
+public record QuoteResponse(
+    UUID groupId,
+    int totalDays,
+    double groupAmount,
+    double accessoriesAmount,
+    double discount,
+    double totalAmount
+) {
+
+  /**
+   * Converts an engine quote, held in cents, to the response.
+   *
+   * @param groupId the group id
+   * @param quote   the quote
+   * @return the quote response
+   */
+  public static QuoteResponse of(UUID groupId, PriceQuote quote) {
+    return new QuoteResponse(
+        groupId,
+        quote.days(),
+        quote.groupCents() / 100.0,
+        quote.accessoriesCents() / 100.0,
+        quote.discountCents() / 100.0,
+        quote.totalAmount()
+    );
+  }
+}
@@ -4,6 +4,8 @@ import com.rental.entity.Accessory;
 import com.rental.entity.Customer;
 import com.rental.entity.Group;
 import com.rental.entity.Reservation;
+import com.rental.utils.RentalPeriodUtils;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -24,7 +26,7 @@ public record ReservationRequest(
         UUID groupId,
 
         @NotNull(message = "Accessory IDs are mandatory")
-        @Size(min = 1, message = "There must be at least one accessory ID")
+        @Size(min = 1, max = 10, message = "There must be between 1 and 10 accessory IDs")
         List<UUID> accessoryIds,
 
         @NotNull(message = "Pickup date and time is mandatory")
@@ -35,6 +37,17 @@ public record ReservationRequest(
         @FutureOrPresent(message = "Return date and time must be in the future or present")
         LocalDateTime returnDateTime
 ) {
+    @AssertTrue(message = "Return date and time must be after the pickup")
+    public boolean isReturnAfterPickup() {
+        return RentalPeriodUtils.isReturnAfterPickup(pickupDateTime, returnDateTime);
+    }
+
+    @AssertTrue(message = "Rentals last at most " + RentalPeriodUtils.MAX_RENTAL_DAYS
+            + " days and start within " + RentalPeriodUtils.MAX_ADVANCE_DAYS + " days")
+    public boolean isWithinRentalBounds() {
+        return RentalPeriodUtils.isWithinBounds(pickupDateTime, returnDateTime);
+    }
+
     public Reservation toEntity() {
         var customer = new Customer();
         customer.setId(customerId);
@@ -2,7 +2,6 @@ package com.rental.controller.dto.reservation;
 
 import com.rental.controller.dto.accessory.AccessoryDto;
 
-import com.rental.entity.Customer;
 import com.rental.entity.Group;
 import com.rental.entity.Reservation;
 
@@ -14,10 +13,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Reservation response, with summaries of its customer and group instead of the entities.
+ */
 public record ReservationResponse(
     UUID id,
-    Customer customer,
-    Group group,
+    CustomerSummary customer,
+    GroupSummary group,
     List<AccessoryDto> accessories,
     LocalDateTime pickupDateTime,
     LocalDateTime returnDateTime,
@@ -28,11 +30,31 @@ public record ReservationResponse(
     LocalDateTime createdAt,
     LocalDateTime updatedAt
 ) {
+  /**
+   * From entity reservation response.
+   *
+   * @param reservation the reservation
+   * @return the reservation response
+   */
   public static ReservationResponse fromEntity(Reservation reservation) {
+    return fromEntity(reservation, reservation.getCustomer().getFullName());
+  }
+
+  /**
+   * From entity reservation response, with a customer name read alongside the reservation.
+   *
+   * <p>Only the id of the customer is read from the reservation, so a lazy customer stays
+   * uninitialized.</p>
+   *
+   * @param reservation  the reservation
+   * @param customerName the customer full name
+   * @return the reservation response
+   */
+  public static ReservationResponse fromEntity(Reservation reservation, String customerName) {
     return new ReservationResponse(
         reservation.getId(),
-        reservation.getCustomer(),
-        reservation.getGroup(),
+        new CustomerSummary(reservation.getCustomer().getId(), customerName),
+        GroupSummary.fromEntity(reservation.getGroup()),
         reservation.getAccessories()
             .stream()
             .map(AccessoryDto::fromEntity)
@@ -47,5 +69,32 @@ public record ReservationResponse(
         reservation.getUpdatedAt()
     );
   }
-}
 
+  /**
+   * The customer who made a reservation.
+   *
+   * @param id   the customer id
+   * @param name the customer full name
+   */
+  public record CustomerSummary(UUID id, String name) { }
+
+  /**
+   * The group a reservation was made for.
+   *
+   * @param id        the group id
+   * @param name      the group name
+   * @param dailyRate the group daily rate
+   */
+  public record GroupSummary(UUID id, String name, Double dailyRate) {
+
+    /**
+     * From entity group summary.
+     *
+     * @param group the group
+     * @return the group summary
+     */
+    public static GroupSummary fromEntity(Group group) {
+      return new GroupSummary(group.getId(), group.getName(), group.getDailyRate());
+    }
+  }
+}
@@ -1,17 +1,31 @@
 package com.rental.controller.dto.vehicle;
 
-import com.rental.entity.Group;
 import com.rental.entity.Vehicle;
-import java.util.UUID;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 /**
  * The type VehicleCreationDto.
  */
 public record VehicleCreationDto(
+    @NotBlank(message = "Model cannot be blank")
+    @Size(max = 255, message = "Model must be less than or equal to 255 characters")
     String model,
+
+    @NotBlank(message = "License plate cannot be blank")
+    @Size(max = 20, message = "License plate must be less than or equal to 20 characters")
     String licensePlate,
+
+    @NotBlank(message = "Brand cannot be blank")
+    @Size(max = 255, message = "Brand must be less than or equal to 255 characters")
     String brand,
+
+    @NotBlank(message = "Color cannot be blank")
+    @Size(max = 255, message = "Color must be less than or equal to 255 characters")
     String color,
+
+    @Pattern(regexp = "\\d{4}", message = "Year of manufacture must have four digits")
     String yearOfManufacture
 ) {
 
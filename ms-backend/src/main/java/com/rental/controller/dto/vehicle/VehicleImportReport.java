@@ -0,0 +1,29 @@
+package com.rental.controller.dto.vehicle;
+
+import java.util.List;
+
+/**
+ * The type Vehicle import report.
+ *
+ * @param rows            the data rows read
+ * @param imported        the vehicles created
+ * @param failed          the rows rejected
+ * @param errors          the errors of the rejected rows, up to the reporting limit
+ * @param errorsTruncated whether more rows failed than are listed
+ */
+public record VehicleImportReport(
+    long rows,
+    long imported,
+    long failed,
+    List<RowError> errors,
+    boolean errorsTruncated
+) {
+
+  /**
+   * The type Row error.
+   *
+   * @param line    the line of the row in the body, starting at 1
+   * @param message the reason the row was rejected
+   */
+  public record RowError(long line, String message) { }
+}
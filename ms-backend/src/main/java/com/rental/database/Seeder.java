@@ -56,24 +56,24 @@ public class Seeder {
 
     private void seedGroups() {
         List<Group> groups = Arrays.asList(
-                new Group(UUID.randomUUID(), "Grupo A", "Mobi, Uno, Kwid ou similares", 120.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/a.png"),
-                new Group(UUID.randomUUID(), "Grupo B", "Argo, HB20, Onix ou similares", 160.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/b.png"),
-                new Group(UUID.randomUUID(), "Grupo C", "Chronos, HB20S, Onix Plus ou similares", 195.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/c.png"),
-                new Group(UUID.randomUUID(), "Grupo E", "Chevrolet Spin ou Fiat Doblò", 240.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/e.png"),
-                new Group(UUID.randomUUID(), "Grupo G", "Renegade, Compass, Tracker ou similares", 280.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/g.png"),
-                new Group(UUID.randomUUID(), "Grupo P", "Hilux, S10, Ranger ou similares", 300.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/p.png")
+                new Group("Grupo A", "Mobi, Uno, Kwid ou similares", 120.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/a.png", 10),
+                new Group("Grupo B", "Argo, HB20, Onix ou similares", 160.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/b.png", 10),
+                new Group("Grupo C", "Chronos, HB20S, Onix Plus ou similares", 195.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/c.png", 10),
+                new Group("Grupo E", "Chevrolet Spin ou Fiat Doblò", 240.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/e.png", 10),
+                new Group("Grupo G", "Renegade, Compass, Tracker ou similares", 280.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/g.png", 10),
+                new Group("Grupo P", "Hilux, S10, Ranger ou similares", 300.00, "https://raw.githubusercontent.com/rafaelmagalhaesguedes/CDN-GitHub/main/images/p.png", 10)
         );
         groupRepository.saveAll(groups);
     }
 
     private void seedAccessories() {
         List<Accessory> accessories = Arrays.asList(
-                new Accessory(UUID.randomUUID(), "GPS", "SmartPhone com gps integrado.", 5, 90.00),
-                new Accessory(UUID.randomUUID(), "Cadeira de Bebê", "Cadeira de bebê até 5 anos.", 5, 30.00),
-                new Accessory(UUID.randomUUID(), "Bebê conforto", "Bebê conforto até 5 anos.", 5, 40.00),
-                new Accessory(UUID.randomUUID(), "Assento de elevação", "Assento de elevação até 5 anos.", 5, 40.00),
-                new Accessory(UUID.randomUUID(), "Multicondutores", "Para mais de um condutor.", 1, 15.00),
-                new Accessory(UUID.randomUUID(), "Condutor Júnior", "Para condutores recém habilitados.", 1, 15.00)
+                new Accessory("GPS", "SmartPhone com gps integrado.", 5, 90.00),
+                new Accessory("Cadeira de Bebê", "Cadeira de bebê até 5 anos.", 5, 30.00),
+                new Accessory("Bebê conforto", "Bebê conforto até 5 anos.", 5, 40.00),
+                new Accessory("Assento de elevação", "Assento de elevação até 5 anos.", 5, 40.00),
+                new Accessory("Multicondutores", "Para mais de um condutor.", 1, 15.00),
+                new Accessory("Condutor Júnior", "Para condutores recém habilitados.", 1, 15.00)
         );
         accessoryRepository.saveAll(accessories);
     }
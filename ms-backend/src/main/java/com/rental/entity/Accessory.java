@@ -1,7 +1,9 @@
 package com.rental.entity;
 
+import com.rental.service.pricing.PricingRefreshListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -18,6 +20,7 @@ import java.util.UUID;
  * The type Accessory.
  */
 @Entity
+@EntityListeners(PricingRefreshListener.class)
 @Table(name = "accessories")
 public class Accessory {
 
@@ -13,7 +13,8 @@ import lombok.*;
 @Builder
 public class Address {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_seq")
+    @SequenceGenerator(name = "address_seq", sequenceName = "tb_addresses_seq", allocationSize = 50)
     private Long id;
     private String cep;
     private String street;
@@ -26,6 +26,14 @@ public class Customer extends Person {
     @Transient
     private String rawDocument;
 
+    /**
+     * Plaintext that {@link #encryptedDocument} currently holds, once known.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String encryptedRawDocument;
+
     @OneToOne(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true)
     private Address address;
 
@@ -40,14 +48,53 @@ public class Customer extends Person {
         this.address = address;
     }
 
+    /**
+     * Gets the raw document, decrypting it on first access and keeping the plaintext for the
+     * lifetime of this instance.
+     *
+     * @return the raw document
+     */
+    public String getRawDocument() {
+        if (rawDocument == null && encryptedDocument != null) {
+            rawDocument = CryptoService.decrypt(encryptedDocument);
+            encryptedRawDocument = rawDocument;
+
+            // Rows written by the legacy encryptor are upgraded when the entity is next flushed
+            if (!CryptoService.isCurrentFormat(encryptedDocument)) {
+                encryptedDocument = CryptoService.encrypt(rawDocument);
+            }
+        }
+        return rawDocument;
+    }
+
+    /**
+     * Sets the raw document, encrypting it right away when it differs from the stored one so
+     * the change reaches the dirty check even if no other column changed.
+     *
+     * @param rawDocument the raw document
+     */
+    public void setRawDocument(String rawDocument) {
+        // Loads the stored plaintext so an unchanged document keeps its ciphertext
+        getRawDocument();
+
+        this.rawDocument = rawDocument;
+        encryptFields();
+    }
+
     @PrePersist
     @PreUpdate
     public void encryptFields() {
-        this.encryptedDocument = CryptoService.encrypt(rawDocument);
-    }
+        // A document that was never decrypted or set keeps its stored ciphertext
+        if (rawDocument == null) {
+            return;
+        }
+
+        boolean unchanged = rawDocument.equals(encryptedRawDocument);
+        if (unchanged && CryptoService.isCurrentFormat(encryptedDocument)) {
+            return;
+        }
 
-    @PostLoad
-    public void decryptFields() {
-        this.rawDocument = CryptoService.decrypt(encryptedDocument);
+        this.encryptedDocument = CryptoService.encrypt(rawDocument);
+        this.encryptedRawDocument = rawDocument;
     }
-}
\ No newline at end of file
+}
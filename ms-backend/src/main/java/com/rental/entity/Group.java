@@ -1,6 +1,8 @@
 package com.rental.entity;
 
+import com.rental.service.pricing.PricingRefreshListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -13,6 +15,7 @@ import java.util.UUID;
  * The type Group.
  */
 @Entity
+@EntityListeners(PricingRefreshListener.class)
 @Table(name = "vehicle_groups")
 public class Group {
 
@@ -28,6 +31,8 @@ public class Group {
 
   private String imageURL;
 
+  private Integer quantity;
+
   public Group() { }
 
   public Group(UUID id, String name, String vehicles, Double dailyRate, String imageURL) {
@@ -38,6 +43,11 @@ public class Group {
     this.imageURL = imageURL;
   }
 
+  public Group(UUID id, String name, String vehicles, Double dailyRate, String imageURL, Integer quantity) {
+    this(id, name, vehicles, dailyRate, imageURL);
+    this.quantity = quantity;
+  }
+
   public Group(String name, String vehicles, Double dailyRate, String imageURL) {
     this.name = name;
     this.vehicles = vehicles;
@@ -45,6 +55,11 @@ public class Group {
     this.imageURL = imageURL;
   }
 
+  public Group(String name, String vehicles, Double dailyRate, String imageURL, Integer quantity) {
+    this(name, vehicles, dailyRate, imageURL);
+    this.quantity = quantity;
+  }
+
   public UUID getId() {
     return id;
   }
@@ -85,6 +100,14 @@ public class Group {
     this.imageURL = imageURL;
   }
 
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(Integer quantity) {
+    this.quantity = quantity;
+  }
+
   @Override
   public boolean equals(Object obj) {
     return EqualsBuilder.reflectionEquals(obj, this);
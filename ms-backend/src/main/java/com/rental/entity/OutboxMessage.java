@@ -0,0 +1,41 @@
+package com.rental.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Broker message waiting to be published by the outbox relay.
+ *
+ * <p>Rows are written in the same transaction as the change they announce and deleted once
+ * the broker confirms them.</p>
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_outbox_messages")
+public class OutboxMessage {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  private UUID id;
+
+  @Column(name = "routing_key", nullable = false)
+  private String routingKey;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  public OutboxMessage(String routingKey, String payload) {
+    this.routingKey = routingKey;
+    this.payload = payload;
+    this.createdAt = LocalDateTime.now();
+  }
+}
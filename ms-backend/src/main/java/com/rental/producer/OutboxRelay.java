@@ -0,0 +1,98 @@
+package com.rental.producer;
+
+import com.rental.entity.OutboxMessage;
+import com.rental.repository.OutboxMessageRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes the outbox messages to RabbitMQ in batches.
+ *
+ * <p>Each batch is sent on one channel and the relay waits for the broker to confirm all of it
+ * before deleting the rows. When the broker nacks or does not answer in time the transaction
+ * rolls back and the batch is sent again on the next run, so delivery is at-least-once and
+ * consumers should deduplicate by message id.</p>
+ */
+@Component
+public class OutboxRelay {
+
+  final RabbitTemplate rabbitTemplate;
+  final OutboxMessageRepository outboxMessageRepository;
+  final TransactionTemplate transactionTemplate;
+
+  @Value("${outbox.relay.batch-size:100}")
+  private int batchSize;
+
+  @Value("${outbox.relay.confirm-timeout-ms:5000}")
+  private long confirmTimeout;
+
+  /**
+   * Instantiates a new Outbox relay.
+   *
+   * @param rabbitTemplate          the rabbit template
+   * @param outboxMessageRepository the outbox message repository
+   * @param transactionManager      the transaction manager
+   */
+  public OutboxRelay(RabbitTemplate rabbitTemplate, OutboxMessageRepository outboxMessageRepository,
+                     PlatformTransactionManager transactionManager) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.outboxMessageRepository = outboxMessageRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Publishes the pending messages until the outbox is drained.
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+  public void relay() {
+    while (publishBatch() == batchSize) {
+      // keep draining while full batches come back
+    }
+  }
+
+  /**
+   * Publishes one batch of pending messages in its own transaction.
+   *
+   * @return the number of messages published
+   */
+  public int publishBatch() {
+    Integer published = transactionTemplate.execute(status -> sendAndDelete());
+    return published == null ? 0 : published;
+  }
+
+  private int sendAndDelete() {
+    List<OutboxMessage> batch = outboxMessageRepository.lockNextBatch(PageRequest.of(0, batchSize));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    rabbitTemplate.invoke(operations -> {
+      for (OutboxMessage outboxMessage : batch) {
+        operations.send("", outboxMessage.getRoutingKey(), toMessage(outboxMessage));
+      }
+      operations.waitForConfirmsOrDie(confirmTimeout);
+      return null;
+    });
+
+    outboxMessageRepository.deleteAllInBatch(batch);
+    return batch.size();
+  }
+
+  private static Message toMessage(OutboxMessage outboxMessage) {
+    return MessageBuilder.withBody(outboxMessage.getPayload().getBytes(StandardCharsets.UTF_8))
+        .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+        .setContentEncoding(StandardCharsets.UTF_8.name())
+        .setMessageId(outboxMessage.getId().toString())
+        .build();
+  }
+}
@@ -1,27 +1,35 @@
 package com.rental.producer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rental.controller.dto.auth.EmailDto;
-import com.rental.entity.Person;
+import com.rental.entity.OutboxMessage;
 import com.rental.entity.Reservation;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import com.rental.repository.OutboxMessageRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * The type Reservation producer.
+ *
+ * <p>Messages are written to the outbox in the caller's transaction and published to the
+ * broker by {@link OutboxRelay} once it commits.</p>
  */
 @Component
 public class ReservationProducer {
 
-  final RabbitTemplate rabbitTemplate;
+  final OutboxMessageRepository outboxMessageRepository;
+  final ObjectMapper objectMapper;
 
   /**
    * Instantiates a new Reservation producer.
    *
-   * @param rabbitTemplate the rabbit template
+   * @param outboxMessageRepository the outbox message repository
+   * @param objectMapper            the object mapper
    */
-  public ReservationProducer(RabbitTemplate rabbitTemplate) {
-    this.rabbitTemplate = rabbitTemplate;
+  public ReservationProducer(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+    this.outboxMessageRepository = outboxMessageRepository;
+    this.objectMapper = objectMapper;
   }
 
   @Value(value = "${broker.queue.email.name}")
@@ -29,7 +37,7 @@ public class ReservationProducer {
 
   public void publishMessageEmail(Reservation reservation) {
     EmailDto emailDto = new EmailDto();
-    emailDto.setUserName(reservation.getCustomer().getFullName());
+    emailDto.setUserId(reservation.getCustomer().getId());
     emailDto.setEmailTo(reservation.getCustomer().getEmail());
     emailDto.setSubject("Reserva Confirmada");
 
@@ -45,11 +53,16 @@ public class ReservationProducer {
         reservation.getCustomer().getFullName(),
         reservation.getPickupDateTime(),
         reservation.getReturnDateTime(),
-        reservation.getTotalAmount()
+        reservation.getTotalAmount(),
+        reservation.getPaymentType()
     );
 
     emailDto.setText(emailText);
 
-    rabbitTemplate.convertAndSend("", routingKey, emailDto);
+    try {
+      outboxMessageRepository.save(new OutboxMessage(routingKey, objectMapper.writeValueAsString(emailDto)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize the reservation email.", e);
+    }
   }
 }
@@ -1,9 +1,15 @@
 package com.rental.repository;
 
+import com.rental.controller.dto.accessory.AccessoryDto;
 import com.rental.entity.Accessory;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -19,4 +25,38 @@ public interface AccessoryRepository extends JpaRepository <Accessory, UUID> {
    * @return the list
    */
   List<Accessory> findAllByIdIn(List<UUID> accessoryIds);
-}
\ No newline at end of file
+
+  /**
+   * Find the accessory dto by id.
+   *
+   * @param id the id
+   * @return the accessory dto
+   */
+  @Query("select new com.rental.controller.dto.accessory.AccessoryDto("
+          + "a.id, a.name, a.description, a.quantity, a.dailyRate) "
+          + "from Accessory a where a.id = :id")
+  Optional<AccessoryDto> findDtoById(@Param("id") UUID id);
+
+  /**
+   * Find a page of accessory dtos in id order.
+   *
+   * @param pageable the page request
+   * @return the slice of dtos
+   */
+  @Query("select new com.rental.controller.dto.accessory.AccessoryDto("
+          + "a.id, a.name, a.description, a.quantity, a.dailyRate) "
+          + "from Accessory a order by a.id")
+  Slice<AccessoryDto> findDtoPage(Pageable pageable);
+
+  /**
+   * Find the accessory dtos after the given id, in id order.
+   *
+   * @param after    the id to seek after
+   * @param pageable the page size
+   * @return the slice of dtos
+   */
+  @Query("select new com.rental.controller.dto.accessory.AccessoryDto("
+          + "a.id, a.name, a.description, a.quantity, a.dailyRate) "
+          + "from Accessory a where a.id > :after order by a.id")
+  Slice<AccessoryDto> findDtosAfter(@Param("after") UUID after, Pageable pageable);
+}
@@ -1,8 +1,49 @@
 package com.rental.repository;
 
+import com.rental.controller.dto.customer.CustomerResponse;
 import com.rental.entity.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+
+    /**
+     * Find the customer response by id, never reading the password or document.
+     *
+     * @param id the id
+     * @return the customer dto
+     */
+    @Query("select new com.rental.controller.dto.customer.CustomerResponse("
+            + "c.id, c.fullName, c.email, c.phoneNumber) "
+            + "from Customer c where c.id = :id")
+    Optional<CustomerResponse> findDtoById(@Param("id") UUID id);
+
+    /**
+     * Find a page of customer responses in id order.
+     *
+     * @param pageable the page request
+     * @return the slice of dtos
+     */
+    @Query("select new com.rental.controller.dto.customer.CustomerResponse("
+            + "c.id, c.fullName, c.email, c.phoneNumber) "
+            + "from Customer c order by c.id")
+    Slice<CustomerResponse> findDtoPage(Pageable pageable);
+
+    /**
+     * Find the customer responses after the given id, in id order.
+     *
+     * @param after    the id to seek after
+     * @param pageable the page size
+     * @return the slice of dtos
+     */
+    @Query("select new com.rental.controller.dto.customer.CustomerResponse("
+            + "c.id, c.fullName, c.email, c.phoneNumber) "
+            + "from Customer c where c.id > :after order by c.id")
+    Slice<CustomerResponse> findDtosAfter(@Param("after") UUID after, Pageable pageable);
 }
@@ -1,10 +1,15 @@
 package com.rental.repository;
 
+import com.rental.controller.dto.group.GroupDto;
 import com.rental.entity.Group;
 
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,4 +18,38 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface GroupRepository extends JpaRepository<Group, UUID> {
     Optional<Group> findByName(String name);
+
+    /**
+     * Find the group dto by id.
+     *
+     * @param id the id
+     * @return the group dto
+     */
+    @Query("select new com.rental.controller.dto.group.GroupDto("
+            + "g.id, g.name, g.vehicles, g.dailyRate, g.imageURL, g.quantity) "
+            + "from Group g where g.id = :id")
+    Optional<GroupDto> findDtoById(@Param("id") UUID id);
+
+    /**
+     * Find a page of group dtos in id order.
+     *
+     * @param pageable the page request
+     * @return the slice of dtos
+     */
+    @Query("select new com.rental.controller.dto.group.GroupDto("
+            + "g.id, g.name, g.vehicles, g.dailyRate, g.imageURL, g.quantity) "
+            + "from Group g order by g.id")
+    Slice<GroupDto> findDtoPage(Pageable pageable);
+
+    /**
+     * Find the group dtos after the given id, in id order.
+     *
+     * @param after    the id to seek after
+     * @param pageable the page size
+     * @return the slice of dtos
+     */
+    @Query("select new com.rental.controller.dto.group.GroupDto("
+            + "g.id, g.name, g.vehicles, g.dailyRate, g.imageURL, g.quantity) "
+            + "from Group g where g.id > :after order by g.id")
+    Slice<GroupDto> findDtosAfter(@Param("after") UUID after, Pageable pageable);
 }
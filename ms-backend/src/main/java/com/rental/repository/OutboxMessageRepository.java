@@ -0,0 +1,31 @@
+package com.rental.repository;
+
+import com.rental.entity.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The interface Outbox message repository.
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, UUID> {
+
+  /**
+   * Locks the oldest pending messages, skipping rows already locked by another relay.
+   *
+   * @param pageable the batch size
+   * @return the locked messages
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("select m from OutboxMessage m order by m.createdAt, m.id")
+  List<OutboxMessage> lockNextBatch(Pageable pageable);
+}
@@ -2,9 +2,24 @@ package com.rental.repository;
 
 import com.rental.entity.Reservation;
 
-import java.util.Optional;
+import com.rental.enums.ReservationStatus;
+import com.rental.repository.projection.CustomerReservationRow;
+import com.rental.repository.projection.ReservationDetails;
+import com.rental.repository.projection.ReservationExportRow;
+import com.rental.repository.projection.ReservationWindow;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,5 +27,106 @@ import org.springframework.stereotype.Repository;
  **/
 @Repository
 public interface ReservationRepository extends JpaRepository <Reservation, UUID> {
-    Optional<Reservation> findByPersonEmail(String email);
+
+    /**
+     * Rows fetched from the database per round trip while streaming.
+     *
+     * <p>PostgreSQL honours it inside the export transaction. MySQL Connector/J ignores it and
+     * buffers the whole result unless the URL sets {@code useCursorFetch=true}, as prod does.</p>
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Find the newest reservations of a customer, the first page of its history.
+     *
+     * @param customerId the customer id
+     * @param pageable   the page size
+     * @return the slice of rows, newest first
+     */
+    @Query("select new com.rental.repository.projection.CustomerReservationRow("
+            + "r.id, g.id, g.name, r.pickupDateTime, r.returnDateTime, r.paymentType, "
+            + "r.totalAmount, r.totalDays, r.reservationStatus, r.createdAt) "
+            + "from Reservation r join r.group g where r.customer.id = :customerId "
+            + "order by r.createdAt desc, r.id desc")
+    Slice<CustomerReservationRow> findCustomerHistory(@Param("customerId") UUID customerId, Pageable pageable);
+
+    /**
+     * Find the reservations of a customer created before the given position of its history.
+     *
+     * @param customerId the customer id
+     * @param createdAt  the creation time of the last row of the previous page
+     * @param id         the id of the last row of the previous page
+     * @param pageable   the page size
+     * @return the slice of rows, newest first
+     */
+    @Query("select new com.rental.repository.projection.CustomerReservationRow("
+            + "r.id, g.id, g.name, r.pickupDateTime, r.returnDateTime, r.paymentType, "
+            + "r.totalAmount, r.totalDays, r.reservationStatus, r.createdAt) "
+            + "from Reservation r join r.group g where r.customer.id = :customerId "
+            + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) "
+            + "order by r.createdAt desc, r.id desc")
+    Slice<CustomerReservationRow> findCustomerHistoryBefore(@Param("customerId") UUID customerId,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") UUID id,
+                                                            Pageable pageable);
+
+    /**
+     * Find a page of reservation ids, newest first, without counting the table.
+     *
+     * @param pageable the page request
+     * @return the slice of ids
+     */
+    @Query("select r.id from Reservation r order by r.createdAt desc, r.id")
+    Slice<UUID> findPageIds(Pageable pageable);
+
+    /**
+     * Find the reservation ids after the given id, in id order.
+     *
+     * @param after    the id to seek after
+     * @param pageable the page size
+     * @return the slice of ids
+     */
+    @Query("select r.id from Reservation r where r.id > :after order by r.id")
+    Slice<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Find reservations by id with their group, accessories and customer name in a single query.
+     *
+     * @param ids the reservation ids
+     * @return the reservation details, in no particular order
+     */
+    @EntityGraph(attributePaths = {"group", "accessories"})
+    @Query("select new com.rental.repository.projection.ReservationDetails(r, c.fullName) "
+            + "from Reservation r join r.customer c where r.id in :ids")
+    List<ReservationDetails> findWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find the booked windows of every reservation still occupying a vehicle after the given date.
+     *
+     * @param from     the lower bound for the return date
+     * @param excluded the status that does not hold a vehicle
+     * @return the booked windows
+     */
+    @Query("select r.group.id as groupId, r.pickupDateTime as pickupDateTime, r.returnDateTime as returnDateTime "
+            + "from Reservation r where r.returnDateTime >= :from and r.reservationStatus <> :excluded")
+    List<ReservationWindow> findWindowsReturningAfter(@Param("from") LocalDateTime from,
+                                                      @Param("excluded") ReservationStatus excluded);
+
+    /**
+     * Stream every reservation as a flat export row, oldest first, over a forward-only cursor.
+     *
+     * <p>Rows are DTOs rather than entities, so nothing accumulates in the persistence context.
+     * Must be consumed inside a transaction and closed afterwards.</p>
+     *
+     * @return the stream of rows
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select new com.rental.repository.projection.ReservationExportRow("
+            + "r.id, c.id, c.fullName, c.email, g.id, g.name, r.pickupDateTime, r.returnDateTime, "
+            + "r.paymentType, r.totalAmount, r.totalDays, r.reservationStatus, r.createdAt) "
+            + "from Reservation r join r.customer c join r.group g order by r.createdAt, r.id")
+    Stream<ReservationExportRow> streamExportRows();
 }
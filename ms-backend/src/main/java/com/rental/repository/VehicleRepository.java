@@ -1,8 +1,14 @@
 package com.rental.repository;
 
+import com.rental.controller.dto.vehicle.VehicleDto;
 import com.rental.entity.Vehicle;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * The interface Vehicle repository.
@@ -10,10 +16,47 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface VehicleRepository extends JpaRepository<Vehicle, UUID> {
 
     /**
-     * Find by license plate vehicle.
+     * Find the vehicle dto by id.
+     *
+     * @param id the id
+     * @return the vehicle dto
+     */
+    @Query("select new com.rental.controller.dto.vehicle.VehicleDto("
+            + "v.id, v.model, v.licensePlate, v.brand, v.color, v.yearOfManufacture) "
+            + "from Vehicle v where v.id = :id")
+    Optional<VehicleDto> findDtoById(@Param("id") UUID id);
+
+    /**
+     * Find the vehicle dto by license plate, a unique index lookup.
      *
      * @param licensePlate the license plate
-     * @return the vehicle
+     * @return the vehicle dto
+     */
+    @Query("select new com.rental.controller.dto.vehicle.VehicleDto("
+            + "v.id, v.model, v.licensePlate, v.brand, v.color, v.yearOfManufacture) "
+            + "from Vehicle v where v.licensePlate = :licensePlate")
+    Optional<VehicleDto> findDtoByLicensePlate(@Param("licensePlate") String licensePlate);
+
+    /**
+     * Find a page of vehicle dtos in id order.
+     *
+     * @param pageable the page request
+     * @return the slice of dtos
+     */
+    @Query("select new com.rental.controller.dto.vehicle.VehicleDto("
+            + "v.id, v.model, v.licensePlate, v.brand, v.color, v.yearOfManufacture) "
+            + "from Vehicle v order by v.id")
+    Slice<VehicleDto> findDtoPage(Pageable pageable);
+
+    /**
+     * Find the vehicle dtos after the given id, in id order.
+     *
+     * @param after    the id to seek after
+     * @param pageable the page size
+     * @return the slice of dtos
      */
-    Vehicle findByLicensePlate(String licensePlate);
+    @Query("select new com.rental.controller.dto.vehicle.VehicleDto("
+            + "v.id, v.model, v.licensePlate, v.brand, v.color, v.yearOfManufacture) "
+            + "from Vehicle v where v.id > :after order by v.id")
+    Slice<VehicleDto> findDtosAfter(@Param("after") UUID after, Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.rental.repository.projection;
+
+import com.rental.enums.PaymentType;
+import com.rental.enums.ReservationStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a reservation in the history of its customer.
+ */
+public record CustomerReservationRow(
+    UUID id,
+    UUID groupId,
+    String groupName,
+    LocalDateTime pickupDateTime,
+    LocalDateTime returnDateTime,
+    PaymentType paymentType,
+    Double totalAmount,
+    Integer totalDays,
+    ReservationStatus reservationStatus,
+    LocalDateTime createdAt
+) { }
@@ -0,0 +1,11 @@
+package com.rental.repository.projection;
+
+import com.rental.entity.Reservation;
+
+/**
+ * Projection of a reservation with the name of its customer, so the customer is never loaded.
+ */
+public record ReservationDetails(
+    Reservation reservation,
+    String customerName
+) { }
@@ -0,0 +1,31 @@
+package com.rental.repository.projection;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.rental.enums.PaymentType;
+import com.rental.enums.ReservationStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat projection of a reservation for reporting exports, in CSV column order.
+ */
+@JsonPropertyOrder({
+    "id", "customerId", "customerName", "customerEmail", "groupId", "groupName",
+    "pickupDateTime", "returnDateTime", "paymentType", "totalAmount", "totalDays",
+    "reservationStatus", "createdAt"
+})
+public record ReservationExportRow(
+    UUID id,
+    UUID customerId,
+    String customerName,
+    String customerEmail,
+    UUID groupId,
+    String groupName,
+    LocalDateTime pickupDateTime,
+    LocalDateTime returnDateTime,
+    PaymentType paymentType,
+    Double totalAmount,
+    Integer totalDays,
+    ReservationStatus reservationStatus,
+    LocalDateTime createdAt
+) { }
@@ -0,0 +1,16 @@
+package com.rental.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection with the group and period booked by a reservation.
+ */
+public interface ReservationWindow {
+
+  UUID getGroupId();
+
+  LocalDateTime getPickupDateTime();
+
+  LocalDateTime getReturnDateTime();
+}
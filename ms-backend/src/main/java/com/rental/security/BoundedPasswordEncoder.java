@@ -0,0 +1,70 @@
+package com.rental.security;
+
+import com.rental.service.exception.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder that caps how many hashes are computed at once.
+ *
+ * <p>Hashing is deliberately expensive, so a login storm could otherwise occupy every core and
+ * starve the rest of the API. Callers beyond the limit wait up to the configured timeout for a
+ * slot and are then rejected with {@link PasswordHashingBusyException}.</p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final Semaphore permits;
+  private final long timeoutNanos;
+
+  /**
+   * Instantiates a new Bounded password encoder.
+   *
+   * @param delegate       the encoder doing the hashing
+   * @param permits        the hash computations allowed at once
+   * @param acquireTimeout how long to wait for a free slot
+   */
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int permits, Duration acquireTimeout) {
+    this.delegate = delegate;
+    this.permits = new Semaphore(permits, true);
+    this.timeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    acquire();
+    try {
+      return delegate.encode(rawPassword);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    acquire();
+    try {
+      return delegate.matches(rawPassword, encodedPassword);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private void acquire() {
+    try {
+      if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new PasswordHashingBusyException();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingBusyException();
+    }
+  }
+}
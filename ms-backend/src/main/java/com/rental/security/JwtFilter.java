@@ -1,5 +1,8 @@
 package com.rental.security;
 
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rental.enums.Role;
 import com.rental.service.PersonService;
 import com.rental.service.TokenService;
 import jakarta.servlet.FilterChain;
@@ -8,7 +11,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,17 +28,21 @@ public class JwtFilter extends OncePerRequestFilter {
 
   private final TokenService tokenService;
   private final PersonService personService;
+  private final PrincipalMode principalMode;
 
   /**
    * Instantiates a new Jwt filter.
    *
    * @param tokenService  the token service
    * @param personService the person service
+   * @param principalMode how the principal is resolved from the token
    */
   @Autowired
-  public JwtFilter(TokenService tokenService, PersonService personService) {
+  public JwtFilter(TokenService tokenService, PersonService personService,
+                   @Value("${api.security.principal.mode:cache}") PrincipalMode principalMode) {
     this.tokenService = tokenService;
     this.personService = personService;
+    this.principalMode = principalMode;
   }
 
   @Override
@@ -45,8 +54,7 @@ public class JwtFilter extends OncePerRequestFilter {
     Optional<String> token = extractToken(request);
 
     if (token.isPresent()) {
-      String subject = tokenService.validateToken(token.get());
-      UserDetails userDetails = personService.loadUserByUsername(subject);
+      UserDetails userDetails = resolvePrincipal(tokenService.decodeToken(token.get()));
 
       UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
           userDetails, null, userDetails.getAuthorities());
@@ -57,6 +65,19 @@ public class JwtFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  private UserDetails resolvePrincipal(DecodedJWT token) {
+    if (principalMode == PrincipalMode.CLAIMS) {
+      Claim id = token.getClaim(TokenService.ID_CLAIM);
+      Claim role = token.getClaim(TokenService.ROLE_CLAIM);
+
+      if (!id.isMissing() && !role.isMissing()) {
+        return new PersonPrincipal(UUID.fromString(id.asString()), token.getSubject(), Role.valueOf(role.asString()));
+      }
+    }
+
+    return personService.loadPrincipal(token.getSubject());
+  }
+
   private Optional<String> extractToken(HttpServletRequest request) {
     String authHeader = request.getHeader("Authorization");
 
@@ -0,0 +1,31 @@
+package com.rental.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Password hashing settings, bound from the {@code api.security.password.*} properties.
+ *
+ * @param algorithm            the encoder id used for new hashes: bcrypt or pbkdf2
+ * @param bcryptCost           the bcrypt log rounds
+ * @param maxConcurrentHashes  the hash computations allowed at once, 0 for one per core
+ * @param acquireTimeout       how long a login waits for a free hashing slot
+ */
+@ConfigurationProperties(prefix = "api.security.password")
+public record PasswordHashingProperties(
+    @DefaultValue("bcrypt") String algorithm,
+    @DefaultValue("10") int bcryptCost,
+    @DefaultValue("0") int maxConcurrentHashes,
+    @DefaultValue("2s") Duration acquireTimeout
+) {
+
+  /**
+   * Gets the number of hash computations allowed at once.
+   *
+   * @return the permits
+   */
+  public int permits() {
+    return maxConcurrentHashes > 0 ? maxConcurrentHashes : Runtime.getRuntime().availableProcessors();
+  }
+}
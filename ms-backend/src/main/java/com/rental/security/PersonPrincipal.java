@@ -0,0 +1,45 @@
+package com.rental.security;
+
+import com.rental.entity.Person;
+import com.rental.enums.Role;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Authenticated person of a request, detached from the persistence context.
+ *
+ * @param id    the person id
+ * @param email the person email
+ * @param role  the person role
+ */
+public record PersonPrincipal(UUID id, String email, Role role) implements UserDetails {
+
+  /**
+   * Creates the principal of a person.
+   *
+   * @param person the person
+   * @return the principal
+   */
+  public static PersonPrincipal fromEntity(Person person) {
+    return new PersonPrincipal(person.getId(), person.getEmail(), person.getRole());
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return List.of(new SimpleGrantedAuthority(role.name()));
+  }
+
+  @Override
+  public String getPassword() {
+    return null;
+  }
+
+  @Override
+  public String getUsername() {
+    return email;
+  }
+}
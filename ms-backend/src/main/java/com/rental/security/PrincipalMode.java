@@ -0,0 +1,15 @@
+package com.rental.security;
+
+/**
+ * How JwtFilter resolves the principal of an authenticated request.
+ */
+public enum PrincipalMode {
+  /**
+   * Looks the person up by the token subject, through the principalByEmail cache.
+   */
+  CACHE,
+  /**
+   * Builds the principal from the id and role claims of the token, without database access.
+   */
+  CLAIMS
+}
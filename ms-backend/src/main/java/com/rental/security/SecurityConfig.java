@@ -1,6 +1,10 @@
 package com.rental.security;
 
+import jakarta.servlet.DispatcherType;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,7 +16,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -27,6 +33,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true)
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 public class SecurityConfig {
 
   private final JwtFilter jwtFilter;
@@ -55,10 +62,15 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .cors(withDefaults())
             .authorizeHttpRequests(authorize -> authorize
+                    // Streamed responses finish on an async dispatch of an already authorized request
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers("/").permitAll()
                     .requestMatchers(HttpMethod.GET, "/group").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/group/cursor").permitAll()
                     .requestMatchers(HttpMethod.GET, "/accessory").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/accessory/cursor").permitAll()
                     .requestMatchers(HttpMethod.POST, "/persons").permitAll()
+                    .requestMatchers(HttpMethod.POST, "/reservation/quote").permitAll()
                     .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                     .requestMatchers("/swagger-ui/**").permitAll()
                     .requestMatchers("/v3/api-docs/**").permitAll()
@@ -84,10 +96,27 @@ public class SecurityConfig {
   /**
    * Password encoder password encoder.
    *
+   * <p>New hashes use the configured algorithm and carry its id as a prefix. Hashes without a
+   * prefix were written before and are matched as bcrypt; they, and bcrypt hashes below the
+   * configured cost, are upgraded on the next successful login.</p>
+   *
+   * @param properties the password hashing properties
    * @return the password encoder
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.bcryptCost());
+
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put("bcrypt", bcrypt);
+    encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+    if (!encoders.containsKey(properties.algorithm())) {
+      throw new IllegalStateException("Unsupported password hashing algorithm: " + properties.algorithm());
+    }
+
+    DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(properties.algorithm(), encoders);
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+    return new BoundedPasswordEncoder(delegating, properties.permits(), properties.acquireTimeout());
   }
 }
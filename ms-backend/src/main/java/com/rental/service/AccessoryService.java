@@ -1,5 +1,6 @@
 package com.rental.service;
 
+import com.rental.controller.dto.accessory.AccessoryDto;
 import com.rental.entity.Accessory;
 import com.rental.repository.AccessoryRepository;
 import com.rental.service.exception.AccessoryNotFoundException;
@@ -7,9 +8,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 /**
@@ -52,6 +53,18 @@ public class AccessoryService {
     return accessoryRepository.findAllByIdIn(accessoryIds);
   }
 
+  /**
+   * Gets accessory dto by id, without loading the entity.
+   *
+   * @param id the id
+   * @return the accessory dto
+   * @throws AccessoryNotFoundException the accessory not found exception
+   */
+  public AccessoryDto getAccessoryDtoById(UUID id) throws AccessoryNotFoundException {
+    return accessoryRepository.findDtoById(id)
+        .orElseThrow(AccessoryNotFoundException::new);
+  }
+
   /**
    * Gets all accessories.
    *
@@ -59,10 +72,20 @@ public class AccessoryService {
    * @param pageSize   the page size
    * @return the all accessories
    */
-  public List<Accessory> getAllAccessories(int pageNumber, int pageSize) {
+  public List<AccessoryDto> getAllAccessories(int pageNumber, int pageSize) {
     Pageable pageable = PageRequest.of(pageNumber, pageSize);
-    Page<Accessory> page = accessoryRepository.findAll(pageable);
-    return page.getContent();
+    return accessoryRepository.findDtoPage(pageable).getContent();
+  }
+
+  /**
+   * Gets the accessories after a keyset position.
+   *
+   * @param after the id to seek after
+   * @param limit the page size
+   * @return the slice of accessories
+   */
+  public Slice<AccessoryDto> getAccessoriesAfter(UUID after, int limit) {
+    return accessoryRepository.findDtosAfter(after, PageRequest.of(0, limit));
   }
 
   /**
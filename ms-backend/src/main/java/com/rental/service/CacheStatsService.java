@@ -0,0 +1,55 @@
+package com.rental.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rental.controller.dto.cache.CacheStatsResponse;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * The type Cache stats service.
+ */
+@Service
+public class CacheStatsService {
+
+  private final CacheManager cacheManager;
+
+  /**
+   * Instantiates a new Cache stats service.
+   *
+   * @param cacheManager the cache manager
+   */
+  @Autowired
+  public CacheStatsService(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  /**
+   * Gets the statistics of every cache, sorted by name.
+   *
+   * @return the cache statistics
+   */
+  public List<CacheStatsResponse> getStats() {
+    return cacheManager.getCacheNames().stream()
+        .sorted()
+        .map(cacheManager::getCache)
+        .filter(CaffeineCache.class::isInstance)
+        .map(CaffeineCache.class::cast)
+        .map(CacheStatsService::toResponse)
+        .toList();
+  }
+
+  private static CacheStatsResponse toResponse(CaffeineCache cache) {
+    CacheStats stats = cache.getNativeCache().stats();
+    return new CacheStatsResponse(
+        cache.getName(),
+        cache.getNativeCache().estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount()
+    );
+  }
+}
@@ -2,20 +2,130 @@ package com.rental.service;
 
 import org.jasypt.util.text.StrongTextEncryptor;
 
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Encrypts sensitive entity fields.
+ *
+ * <p>Values are encrypted with AES-256-GCM under a key derived once at startup, and stored as
+ * {@code v2:} followed by the Base64 of the IV and the ciphertext. Values written by the former
+ * Jasypt encryptor carry no prefix; they can still be decrypted and {@link #isCurrentFormat}
+ * tells callers when to re-encrypt them.</p>
+ */
 public class CryptoService {
-    private static final StrongTextEncryptor encryptor;
     private static final String SECRET_KEY = "mySecretKeyToEncrypt";
+    private static final byte[] KEY_SALT = "rental-field-encryption-v2".getBytes(StandardCharsets.UTF_8);
+    private static final int KEY_ITERATIONS = 210_000;
+    private static final int KEY_BITS = 256;
 
-    static {
-        encryptor = new StrongTextEncryptor();
-        encryptor.setPassword(SECRET_KEY);
-    }
+    private static final String VERSION_PREFIX = "v2:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final SecretKey key = deriveKey();
+    private static final SecureRandom random = new SecureRandom();
+    private static final BlockingQueue<Cipher> ciphers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
 
     public static String encrypt(String rawText) {
-        return encryptor.encrypt(rawText);
+        if (rawText == null) {
+            return null;
+        }
+
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+
+        Cipher cipher = borrowCipher();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(rawText.getBytes(StandardCharsets.UTF_8));
+
+            byte[] payload = ByteBuffer.allocate(IV_BYTES + encrypted.length).put(iv).put(encrypted).array();
+            return VERSION_PREFIX + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt the field.", e);
+        } finally {
+            ciphers.offer(cipher);
+        }
     }
 
     public static String decrypt(String encryptedText) {
-        return encryptor.decrypt(encryptedText);
+        if (encryptedText == null) {
+            return null;
+        }
+        if (!isCurrentFormat(encryptedText)) {
+            return LegacyEncryptor.INSTANCE.decrypt(encryptedText);
+        }
+
+        byte[] payload = Base64.getDecoder().decode(encryptedText.substring(VERSION_PREFIX.length()));
+
+        Cipher cipher = borrowCipher();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_BYTES));
+            byte[] decrypted = cipher.doFinal(payload, IV_BYTES, payload.length - IV_BYTES);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt the field.", e);
+        } finally {
+            ciphers.offer(cipher);
+        }
+    }
+
+    /**
+     * Whether the value was encrypted with the current format.
+     *
+     * @param encryptedText the encrypted value
+     * @return false for values written by the legacy encryptor
+     */
+    public static boolean isCurrentFormat(String encryptedText) {
+        return encryptedText != null && encryptedText.startsWith(VERSION_PREFIX);
+    }
+
+    private static Cipher borrowCipher() {
+        Cipher cipher = ciphers.poll();
+        if (cipher != null) {
+            return cipher;
+        }
+
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM is not available.", e);
+        }
+    }
+
+    private static SecretKey deriveKey() {
+        try {
+            PBEKeySpec spec = new PBEKeySpec(SECRET_KEY.toCharArray(), KEY_SALT, KEY_ITERATIONS, KEY_BITS);
+            byte[] encoded = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+            spec.clearPassword();
+            return new SecretKeySpec(encoded, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not derive the field encryption key.", e);
+        }
+    }
+
+    /**
+     * Jasypt encryptor of the values written before the v2 format, created on first use.
+     */
+    private static final class LegacyEncryptor {
+        private static final StrongTextEncryptor INSTANCE = new StrongTextEncryptor();
+
+        static {
+            INSTANCE.setPassword(SECRET_KEY);
+        }
     }
 }
@@ -1,15 +1,17 @@
 package com.rental.service;
 
+import com.rental.controller.dto.group.GroupDto;
 import com.rental.entity.Group;
 import com.rental.repository.GroupRepository;
 import com.rental.service.exception.GroupNotFoundException;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The type Group service.
@@ -41,6 +43,18 @@ public class GroupService {
         .orElseThrow(GroupNotFoundException::new);
   }
 
+  /**
+   * Gets group dto by id, without loading the entity.
+   *
+   * @param id the id
+   * @return the group dto
+   * @throws GroupNotFoundException the group not found exception
+   */
+  public GroupDto getGroupDtoById(UUID id) throws GroupNotFoundException {
+    return groupRepository.findDtoById(id)
+        .orElseThrow(GroupNotFoundException::new);
+  }
+
   /**
    * Gets all groups.
    *
@@ -48,11 +62,21 @@ public class GroupService {
    * @param pageSize   the page size
    * @return the all groups
    */
-  public List<Group> getAllGroups(int pageNumber, int pageSize) {
+  public List<GroupDto> getAllGroups(int pageNumber, int pageSize) {
     Pageable pageable = PageRequest.of(pageNumber, pageSize);
-    Page<Group> page = groupRepository.findAll(pageable);
 
-    return page.toList();
+    return groupRepository.findDtoPage(pageable).getContent();
+  }
+
+  /**
+   * Gets the groups after a keyset position.
+   *
+   * @param after the id to seek after
+   * @param limit the page size
+   * @return the slice of groups
+   */
+  public Slice<GroupDto> getGroupsAfter(UUID after, int limit) {
+    return groupRepository.findDtosAfter(after, PageRequest.of(0, limit));
   }
 
   /**
@@ -65,6 +89,17 @@ public class GroupService {
     return groupRepository.save(group);
   }
 
+  /**
+   * Create groups in one transaction, sent to the database in JDBC batches.
+   *
+   * @param groups the groups
+   * @return the groups
+   */
+  @Transactional
+  public List<Group> createGroups(List<Group> groups) {
+    return groupRepository.saveAll(groups);
+  }
+
   /**
    * Update group.
    *
@@ -80,6 +115,7 @@ public class GroupService {
     groupFromDb.setVehicles(group.getVehicles());
     groupFromDb.setDailyRate(group.getDailyRate());
     groupFromDb.setImageURL(group.getImageURL());
+    groupFromDb.setQuantity(group.getQuantity());
 
     return groupRepository.save(groupFromDb);
   }
@@ -1,14 +1,18 @@
 package com.rental.service;
 
 import com.rental.repository.PersonRepository;
+import com.rental.security.PersonPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class PersonService implements UserDetailsService {
+public class PersonService implements UserDetailsService, UserDetailsPasswordService {
 
   private final PersonRepository personRepository;
 
@@ -22,4 +26,33 @@ public class PersonService implements UserDetailsService {
     return personRepository.findByEmail(email)
         .orElseThrow(() -> new UsernameNotFoundException("Invalid email or password."));
   }
+
+  /**
+   * Stores the password rehashed by the authentication provider after a successful login with
+   * a hash in a legacy format or below the configured cost.
+   *
+   * @param user        the authenticated user
+   * @param newPassword the new password hash
+   * @return the updated user
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    return personRepository.findByEmail(user.getUsername())
+        .map(person -> {
+          person.setPassword(newPassword);
+          return (UserDetails) personRepository.save(person);
+        })
+        .orElse(user);
+  }
+
+  @Cacheable(value = "principalByEmail", key = "#email")
+  public PersonPrincipal loadPrincipal(String email) throws UsernameNotFoundException {
+    return personRepository.findByEmail(email)
+        .map(PersonPrincipal::fromEntity)
+        .orElseThrow(() -> new UsernameNotFoundException("Invalid email or password."));
+  }
+
+  @CacheEvict(value = "principalByEmail", key = "#email")
+  public void evictPrincipal(String email) {
+  }
 }
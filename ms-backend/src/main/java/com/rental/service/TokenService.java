@@ -1,19 +1,47 @@
 package com.rental.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rental.controller.dto.cache.TokenVerificationStats;
+import com.rental.entity.Person;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 public class TokenService {
+  public static final String ID_CLAIM = "id";
+  public static final String ROLE_CLAIM = "role";
+
   private final Algorithm algorithm;
+  private final JWTVerifier verifier;
+  private final Cache<String, DecodedJWT> verifiedTokens;
+  private final LongAdder verifications = new LongAdder();
+  private final LongAdder verificationNanos = new LongAdder();
 
-  public TokenService(@Value("${api.security.token.secret}") String secret) {
+  public TokenService(@Value("${api.security.token.secret}") String secret,
+                      @Value("${api.security.token.cache-size:10000}") long cacheSize) {
     this.algorithm = Algorithm.HMAC256(secret);
+    this.verifier = JWT.require(algorithm).build();
+    this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfter(new ExpiresAtClaim())
+            .recordStats()
+            .build();
   }
 
   public String generateToken(String email) {
@@ -23,15 +51,86 @@ public class TokenService {
             .sign(algorithm);
   }
 
+  public String generateToken(Person person) {
+    return JWT.create()
+            .withSubject(person.getEmail())
+            .withClaim(ID_CLAIM, person.getId().toString())
+            .withClaim(ROLE_CLAIM, person.getRole().name())
+            .withExpiresAt(generateExpiration())
+            .sign(algorithm);
+  }
+
   private Instant generateExpiration() {
     return Instant.now()
             .plus(1, ChronoUnit.HOURS);
   }
 
   public String validateToken(String token) {
-    return JWT.require(algorithm)
-            .build()
-            .verify(token)
-            .getSubject();
+    return decodeToken(token).getSubject();
+  }
+
+  public DecodedJWT decodeToken(String token) {
+    return verifiedTokens.get(hash(token), key -> verify(token));
+  }
+
+  public TokenVerificationStats getVerificationStats() {
+    CacheStats stats = verifiedTokens.stats();
+    long count = verifications.sum();
+    long averageNanos = count == 0 ? 0 : verificationNanos.sum() / count;
+
+    return new TokenVerificationStats(
+            verifiedTokens.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            count,
+            TimeUnit.NANOSECONDS.toMicros(averageNanos)
+    );
+  }
+
+  private DecodedJWT verify(String token) {
+    long start = System.nanoTime();
+    try {
+      return verifier.verify(token);
+    } finally {
+      verifications.increment();
+      verificationNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+              .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Keeps a verified token cached until its exp claim, so an expired token is verified again
+   * and rejected.
+   */
+  private static final class ExpiresAtClaim implements Expiry<String, DecodedJWT> {
+
+    @Override
+    public long expireAfterCreate(String key, DecodedJWT token, long currentTime) {
+      Instant expiresAt = token.getExpiresAtAsInstant();
+      if (expiresAt == null) {
+        return 0L;
+      }
+      return Math.max(0L, TimeUnit.MILLISECONDS.toNanos(expiresAt.toEpochMilli() - System.currentTimeMillis()));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, DecodedJWT token, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, DecodedJWT token, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,291 @@
+package com.rental.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.rental.cache.VehicleCacheInvalidator;
+import com.rental.controller.dto.vehicle.VehicleCreationDto;
+import com.rental.controller.dto.vehicle.VehicleImportReport;
+import com.rental.controller.dto.vehicle.VehicleImportReport.RowError;
+import com.rental.entity.Vehicle;
+import com.rental.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Imports vehicles from a CSV or NDJSON body.
+ *
+ * <p>The body is read record by record, so its size does not bound memory. Each row is
+ * validated against the {@link VehicleCreationDto} constraints and the valid rows are saved in
+ * batches, each batch in its own transaction. The persistence context is cleared after every
+ * batch, so the request-bound entity manager does not keep the imported vehicles. When a batch
+ * fails its rows are retried one by one, so only the offending rows are reported. The vehicle
+ * listing cache is invalidated once, after the whole import.</p>
+ */
+@Service
+public class VehicleImportService {
+
+  private final VehicleRepository vehicleRepository;
+  private final VehicleCacheInvalidator vehicleCacheInvalidator;
+  private final EntityManager entityManager;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectReader jsonRowReader;
+  private final CsvMapper csvMapper;
+  private final int batchSize;
+  private final int maxReportedErrors;
+
+  /**
+   * Instantiates a new Vehicle import service.
+   *
+   * @param vehicleRepository       the vehicle repository
+   * @param vehicleCacheInvalidator the vehicle cache invalidator
+   * @param entityManager           the shared entity manager
+   * @param validator               the validator
+   * @param transactionManager      the transaction manager
+   * @param objectMapper            the object mapper
+   * @param batchSize               the rows saved per transaction
+   * @param maxReportedErrors       the row errors listed in the report
+   */
+  @Autowired
+  public VehicleImportService(VehicleRepository vehicleRepository,
+                              VehicleCacheInvalidator vehicleCacheInvalidator,
+                              EntityManager entityManager,
+                              Validator validator,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${vehicle.import.batch-size:500}") int batchSize,
+                              @Value("${vehicle.import.max-reported-errors:1000}") int maxReportedErrors) {
+    this.vehicleRepository = vehicleRepository;
+    this.vehicleCacheInvalidator = vehicleCacheInvalidator;
+    this.entityManager = entityManager;
+    this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.jsonRowReader = objectMapper.readerFor(VehicleCreationDto.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.csvMapper = new CsvMapper();
+    this.batchSize = batchSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  /**
+   * Imports vehicles from a CSV body whose first record names the columns.
+   *
+   * <p>Quoted fields may span lines; rows are reported by the line their record starts on. A
+   * quoting error ends the import, since the records after it cannot be told apart.</p>
+   *
+   * @param body the request body
+   * @return the import report
+   * @throws IOException the io exception
+   */
+  public VehicleImportReport importCsv(InputStream body) throws IOException {
+    Import run = new Import();
+
+    try (MappingIterator<String[]> records = csvRecordReader().readValues(reader(body))) {
+      String[] columns = null;
+      while (records.hasNextValue()) {
+        // The CSV parser counts lines from zero
+        long line = records.getParser().currentTokenLocation().getLineNr() + 1;
+
+        String[] values;
+        try {
+          values = records.nextValue();
+        } catch (JsonProcessingException e) {
+          run.rejectRow(line, "Malformed CSV: " + e.getOriginalMessage());
+          break;
+        }
+
+        if (isBlank(values)) {
+          continue;
+        }
+        if (columns == null) {
+          columns = trim(values);
+        } else if (values.length > columns.length) {
+          run.rejectRow(line, "Malformed row: more values than columns");
+        } else {
+          ObjectNode row = csvRow(columns, values);
+          run.accept(line, () -> jsonRowReader.treeToValue(row, VehicleCreationDto.class));
+        }
+      }
+    }
+
+    return run.finish();
+  }
+
+  /**
+   * Imports vehicles from a body with one JSON object per line.
+   *
+   * @param body the request body
+   * @return the import report
+   * @throws IOException the io exception
+   */
+  public VehicleImportReport importNdjson(InputStream body) throws IOException {
+    BufferedReader reader = reader(body);
+    Import run = new Import();
+
+    long lineNumber = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (!line.isBlank()) {
+        String content = line;
+        run.accept(lineNumber, () -> jsonRowReader.readValue(content));
+      }
+    }
+
+    return run.finish();
+  }
+
+  private ObjectReader csvRecordReader() {
+    return csvMapper.readerFor(String[].class)
+        .with(CsvParser.Feature.WRAP_AS_ARRAY)
+        .with(CsvParser.Feature.TRIM_SPACES);
+  }
+
+  private static ObjectNode csvRow(String[] columns, String[] values) {
+    ObjectNode row = JsonNodeFactory.instance.objectNode();
+    for (int i = 0; i < values.length; i++) {
+      row.put(columns[i], values[i].isEmpty() ? null : values[i]);
+    }
+    return row;
+  }
+
+  private static boolean isBlank(String[] values) {
+    return values.length == 0 || (values.length == 1 && values[0].isBlank());
+  }
+
+  private static String[] trim(String[] values) {
+    String[] trimmed = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      trimmed[i] = values[i].trim();
+    }
+    return trimmed;
+  }
+
+  private static BufferedReader reader(InputStream body) {
+    return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+  }
+
+  private record Row(long line, Vehicle vehicle) { }
+
+  /**
+   * Reads one row into its dto.
+   */
+  @FunctionalInterface
+  private interface RowParser {
+    VehicleCreationDto parse() throws JsonProcessingException;
+  }
+
+  /**
+   * State of one import: the pending batch, the counters and the reported errors.
+   */
+  private final class Import {
+
+    private final List<Row> batch = new ArrayList<>(batchSize);
+    private final List<RowError> errors = new ArrayList<>();
+    private long rows;
+    private long imported;
+    private long failed;
+
+    void accept(long line, RowParser parser) {
+      rows++;
+
+      VehicleCreationDto dto;
+      try {
+        dto = parser.parse();
+      } catch (JsonProcessingException e) {
+        reject(line, "Malformed row: " + e.getOriginalMessage());
+        return;
+      }
+
+      Set<ConstraintViolation<VehicleCreationDto>> violations = validator.validate(dto);
+      if (!violations.isEmpty()) {
+        reject(line, violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; ")));
+        return;
+      }
+
+      batch.add(new Row(line, dto.toEntity()));
+      if (batch.size() >= batchSize) {
+        flush();
+      }
+    }
+
+    VehicleImportReport finish() {
+      flush();
+      if (imported > 0) {
+        vehicleCacheInvalidator.vehicleCreated();
+      }
+
+      return new VehicleImportReport(rows, imported, failed, List.copyOf(errors), failed > errors.size());
+    }
+
+    private void flush() {
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      List<Vehicle> vehicles = batch.stream().map(Row::vehicle).toList();
+      try {
+        transactionTemplate.executeWithoutResult(status -> {
+          vehicleRepository.saveAllAndFlush(vehicles);
+          entityManager.clear();
+        });
+        imported += vehicles.size();
+      } catch (DataAccessException | TransactionException e) {
+        batch.forEach(this::saveAlone);
+      }
+      batch.clear();
+    }
+
+    private void saveAlone(Row row) {
+      row.vehicle().setId(null);
+      try {
+        transactionTemplate.executeWithoutResult(status -> {
+          vehicleRepository.saveAndFlush(row.vehicle());
+          entityManager.clear();
+        });
+        imported++;
+      } catch (DataAccessException | TransactionException e) {
+        reject(row.line(), "Could not be saved: " + e.getMostSpecificCause().getMessage());
+      }
+    }
+
+    void rejectRow(long line, String message) {
+      rows++;
+      reject(line, message);
+    }
+
+    private void reject(long line, String message) {
+      failed++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new RowError(line, message));
+      }
+    }
+  }
+}
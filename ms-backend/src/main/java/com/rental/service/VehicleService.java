@@ -1,5 +1,7 @@
 package com.rental.service;
 
+import com.rental.cache.VehicleCacheInvalidator;
+import com.rental.controller.dto.vehicle.VehicleDto;
 import com.rental.entity.Vehicle;
 import com.rental.repository.VehicleRepository;
 import com.rental.service.exception.VehicleNotFoundException;
@@ -7,9 +9,9 @@ import jakarta.transaction.Transactional;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,15 +21,18 @@ import org.springframework.stereotype.Service;
 public class VehicleService {
 
   private final VehicleRepository vehicleRepository;
+  private final VehicleCacheInvalidator vehicleCacheInvalidator;
 
   /**
    * Instantiates a new Vehicle service.
    *
-   * @param vehicleRepository the vehicle repository
+   * @param vehicleRepository       the vehicle repository
+   * @param vehicleCacheInvalidator the vehicle cache invalidator
    */
   @Autowired
-  public VehicleService(VehicleRepository vehicleRepository) {
+  public VehicleService(VehicleRepository vehicleRepository, VehicleCacheInvalidator vehicleCacheInvalidator) {
     this.vehicleRepository = vehicleRepository;
+    this.vehicleCacheInvalidator = vehicleCacheInvalidator;
   }
 
   /**
@@ -42,18 +47,28 @@ public class VehicleService {
         .orElseThrow(VehicleNotFoundException::new);
   }
 
+  /**
+   * Gets vehicle dto by id, without loading the entity.
+   *
+   * @param id the id
+   * @return the vehicle dto
+   * @throws VehicleNotFoundException the vehicle not found exception
+   */
+  public VehicleDto getVehicleDtoById(UUID id) throws VehicleNotFoundException {
+    return vehicleRepository.findDtoById(id)
+        .orElseThrow(VehicleNotFoundException::new);
+  }
+
   /**
    * Gets vehicle by license plate.
    *
    * @param licensePlate the license plate
-   * @return the vehicle by license plate
+   * @return the vehicle dto
    * @throws VehicleNotFoundException the vehicle not found exception
    */
-  public Vehicle getVehicleByLicensePlate(String licensePlate) throws VehicleNotFoundException {
-    Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate);
-    if (vehicle == null) throw new VehicleNotFoundException();
-
-    return vehicle;
+  public VehicleDto getVehicleByLicensePlate(String licensePlate) throws VehicleNotFoundException {
+    return vehicleRepository.findDtoByLicensePlate(licensePlate)
+        .orElseThrow(VehicleNotFoundException::new);
   }
 
   /**
@@ -63,11 +78,21 @@ public class VehicleService {
    * @param pageSize   the page size
    * @return the all vehicles
    */
-  public List<Vehicle> getAllVehicles(int pageNumber, int pageSize) {
+  public List<VehicleDto> getAllVehicles(int pageNumber, int pageSize) {
     Pageable pageable = PageRequest.of(pageNumber, pageSize);
-    Page<Vehicle> page = vehicleRepository.findAll(pageable);
 
-    return page.toList();
+    return vehicleRepository.findDtoPage(pageable).getContent();
+  }
+
+  /**
+   * Gets the vehicles after a keyset position.
+   *
+   * @param after the id to seek after
+   * @param limit the page size
+   * @return the slice of vehicles
+   */
+  public Slice<VehicleDto> getVehiclesAfter(UUID after, int limit) {
+    return vehicleRepository.findDtosAfter(after, PageRequest.of(0, limit));
   }
 
   /**
@@ -78,7 +103,10 @@ public class VehicleService {
    */
   @Transactional
   public Vehicle createVehicle(Vehicle vehicle) {
-    return vehicleRepository.save(vehicle);
+    Vehicle savedVehicle = vehicleRepository.save(vehicle);
+
+    vehicleCacheInvalidator.vehicleCreated();
+    return savedVehicle;
   }
 
   /**
@@ -92,6 +120,7 @@ public class VehicleService {
   @Transactional
   public Vehicle updateVehicle(Vehicle vehicle, UUID id) throws VehicleNotFoundException {
     Vehicle vehicleFromDb = getVehicleById(id);
+    String previousLicensePlate = vehicleFromDb.getLicensePlate();
 
     vehicleFromDb.setModel(vehicle.getModel());
     vehicleFromDb.setLicensePlate(vehicle.getLicensePlate());
@@ -99,7 +128,10 @@ public class VehicleService {
     vehicleFromDb.setColor(vehicle.getColor());
     vehicleFromDb.setYearOfManufacture(vehicle.getYearOfManufacture());
 
-    return vehicleRepository.save(vehicleFromDb);
+    Vehicle savedVehicle = vehicleRepository.save(vehicleFromDb);
+
+    vehicleCacheInvalidator.vehicleChanged(id, previousLicensePlate, savedVehicle.getLicensePlate());
+    return savedVehicle;
   }
 
   /**
@@ -114,6 +146,8 @@ public class VehicleService {
     Vehicle vehicle = getVehicleById(id);
 
     vehicleRepository.delete(vehicle);
+
+    vehicleCacheInvalidator.vehicleChanged(id, vehicle.getLicensePlate());
     return vehicle;
   }
 }
@@ -1,12 +1,15 @@
 package com.rental.service.customer;
 
+import com.rental.controller.dto.customer.CustomerResponse;
 import com.rental.entity.Customer;
 import com.rental.repository.CustomerRepository;
+import com.rental.service.PersonService;
 import com.rental.service.exception.CustomerNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,10 +22,15 @@ import java.util.UUID;
 public class CustomerServiceImpl implements ICustomerService {
 
     private final CustomerRepository customerRepository;
+    private final PersonService personService;
+    private final PasswordEncoder passwordEncoder;
 
     @Autowired
-    public CustomerServiceImpl(CustomerRepository customerRepository) {
+    public CustomerServiceImpl(CustomerRepository customerRepository, PersonService personService,
+                               PasswordEncoder passwordEncoder) {
         this.customerRepository = customerRepository;
+        this.personService = personService;
+        this.passwordEncoder = passwordEncoder;
     }
 
     /**
@@ -32,6 +40,7 @@ public class CustomerServiceImpl implements ICustomerService {
      */
     @Override
     public void create(Customer customer) {
+        customer.setPassword(passwordEncoder.encode(customer.getPassword()));
         customerRepository.save(customer);
     }
 
@@ -48,6 +57,32 @@ public class CustomerServiceImpl implements ICustomerService {
                 .orElseThrow(CustomerNotFoundException::new);
     }
 
+    /**
+     * Gets customer response by id, without loading the entity.
+     *
+     * @param id the id
+     * @return the customer response
+     * @throws CustomerNotFoundException the customer not found exception
+     */
+    @Override
+    public CustomerResponse getResponseById(UUID id) throws CustomerNotFoundException {
+        return customerRepository.findDtoById(id)
+                .orElseThrow(CustomerNotFoundException::new);
+    }
+
+    /**
+     * Checks that a customer exists, without loading it.
+     *
+     * @param id the id
+     * @throws CustomerNotFoundException the customer not found exception
+     */
+    @Override
+    public void ensureExists(UUID id) throws CustomerNotFoundException {
+        if (!customerRepository.existsById(id)) {
+            throw new CustomerNotFoundException();
+        }
+    }
+
     /**
      * Update customer.
      *
@@ -63,6 +98,7 @@ public class CustomerServiceImpl implements ICustomerService {
         customerFromDb.setPhoneNumber(customer.getPhoneNumber());
 
         customerRepository.save(customerFromDb);
+        personService.evictPrincipal(customerFromDb.getEmail());
     }
 
     /**
@@ -76,6 +112,7 @@ public class CustomerServiceImpl implements ICustomerService {
         Customer customer = getById(id);
 
         customerRepository.delete(customer);
+        personService.evictPrincipal(customer.getEmail());
     }
 
     /**
@@ -86,11 +123,22 @@ public class CustomerServiceImpl implements ICustomerService {
      * @return the all customers
      */
     @Override
-    public List<Customer> getAll(int pageNumber, int pageSize) {
+    public List<CustomerResponse> getAll(int pageNumber, int pageSize) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        Page<Customer> page = customerRepository.findAll(pageable);
 
-        return page.getContent();
+        return customerRepository.findDtoPage(pageable).getContent();
+    }
+
+    /**
+     * Gets the customers after a keyset position.
+     *
+     * @param after the id to seek after
+     * @param limit the page size
+     * @return the slice of customers
+     */
+    @Override
+    public Slice<CustomerResponse> getAllAfter(UUID after, int limit) {
+        return customerRepository.findDtosAfter(after, PageRequest.of(0, limit));
     }
 
 }
@@ -1,8 +1,11 @@
 package com.rental.service.customer;
 
+import com.rental.controller.dto.customer.CustomerResponse;
 import com.rental.entity.Customer;
 import com.rental.service.exception.CustomerNotFoundException;
 
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -12,9 +15,15 @@ public interface ICustomerService {
 
     Customer getById(UUID id) throws CustomerNotFoundException;
 
+    CustomerResponse getResponseById(UUID id) throws CustomerNotFoundException;
+
+    void ensureExists(UUID id) throws CustomerNotFoundException;
+
     void update(Customer customer, UUID id) throws CustomerNotFoundException;
 
     void delete(UUID id) throws CustomerNotFoundException;
 
-    List<Customer> getAll(int pageNumber, int pageSize);
+    List<CustomerResponse> getAll(int pageNumber, int pageSize);
+
+    Slice<CustomerResponse> getAllAfter(UUID after, int limit);
 }
@@ -0,0 +1,7 @@
+package com.rental.service.exception;
+
+public class GroupUnavailableException extends Exception {
+  public GroupUnavailableException() {
+    super("No vehicles of this group are available for the selected period.");
+  }
+}
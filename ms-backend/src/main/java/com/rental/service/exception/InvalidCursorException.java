@@ -0,0 +1,7 @@
+package com.rental.service.exception;
+
+public class InvalidCursorException extends RuntimeException {
+  public InvalidCursorException() {
+    super("Invalid page cursor.");
+  }
+}
@@ -0,0 +1,7 @@
+package com.rental.service.exception;
+
+public class InvalidRentalPeriodException extends RuntimeException {
+  public InvalidRentalPeriodException() {
+    super("Invalid rental period.");
+  }
+}
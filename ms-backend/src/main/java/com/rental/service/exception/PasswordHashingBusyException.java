@@ -0,0 +1,7 @@
+package com.rental.service.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+  public PasswordHashingBusyException() {
+    super("Too many logins in progress, please try again shortly.");
+  }
+}
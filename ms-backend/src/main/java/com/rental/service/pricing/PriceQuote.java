@@ -0,0 +1,28 @@
+package com.rental.service.pricing;
+
+/**
+ * Price of a rental period, in cents.
+ *
+ * @param days             the rental days, partial days rounded up
+ * @param groupCents       the group cost with weekend and seasonal rates applied
+ * @param accessoriesCents the accessories cost
+ * @param discountCents    the long-term discount
+ * @param totalCents       the amount to charge
+ */
+public record PriceQuote(
+    int days,
+    long groupCents,
+    long accessoriesCents,
+    long discountCents,
+    long totalCents
+) {
+
+  /**
+   * Gets the amount to charge in currency units.
+   *
+   * @return the total amount
+   */
+  public double totalAmount() {
+    return totalCents / 100.0;
+  }
+}
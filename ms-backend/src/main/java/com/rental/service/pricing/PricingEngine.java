@@ -0,0 +1,235 @@
+package com.rental.service.pricing;
+
+import com.rental.entity.Accessory;
+import com.rental.entity.Group;
+import com.rental.repository.AccessoryRepository;
+import com.rental.repository.GroupRepository;
+import com.rental.service.exception.AccessoryNotFoundException;
+import com.rental.service.exception.GroupNotFoundException;
+import com.rental.service.exception.InvalidRentalPeriodException;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory pricing of reservations.
+ *
+ * <p>Each group rate is compiled into a {@link RateTable} from today over the pricing horizon,
+ * and each accessory rate is kept in cents, so a quote needs no database access and costs the
+ * same for any rental length. The rates are loaded at startup, kept in step with the database
+ * by {@link PricingRefreshListener} and re-based on today once a day.</p>
+ */
+@Component
+@EnableConfigurationProperties(PricingProperties.class)
+public class PricingEngine {
+
+  private static final long SECONDS_PER_DAY = 86_400;
+
+  private final GroupRepository groupRepository;
+  private final AccessoryRepository accessoryRepository;
+  private final PricingProperties rules;
+  private final Map<UUID, RateTable> groupRates = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> accessoryRates = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new Pricing engine.
+   *
+   * @param groupRepository     the group repository
+   * @param accessoryRepository the accessory repository
+   * @param rules               the pricing rules
+   */
+  @Autowired
+  public PricingEngine(GroupRepository groupRepository, AccessoryRepository accessoryRepository,
+                       PricingProperties rules) {
+    this.groupRepository = groupRepository;
+    this.accessoryRepository = accessoryRepository;
+    this.rules = rules;
+  }
+
+  /**
+   * Loads every group and accessory rate from the database.
+   */
+  @PostConstruct
+  public void rebuild() {
+    LocalDate today = LocalDate.now();
+
+    Map<UUID, RateTable> groups = new HashMap<>();
+    for (Group group : groupRepository.findAll()) {
+      groups.put(group.getId(), RateTable.compile(toCents(group.getDailyRate()), today, rules));
+    }
+    Map<UUID, Long> accessories = new HashMap<>();
+    for (Accessory accessory : accessoryRepository.findAll()) {
+      accessories.put(accessory.getId(), toCents(accessory.getDailyRate()));
+    }
+
+    groupRates.clear();
+    groupRates.putAll(groups);
+    accessoryRates.clear();
+    accessoryRates.putAll(accessories);
+  }
+
+  /**
+   * Recompiles the group tables from today, so the horizon keeps moving forward.
+   */
+  @Scheduled(cron = "${reservation.pricing.rebase-cron:0 5 0 * * *}")
+  public void rebase() {
+    LocalDate today = LocalDate.now();
+    groupRates.replaceAll((id, table) -> RateTable.compile(table.dailyCents(), today, rules));
+  }
+
+  /**
+   * Quotes a reservation from the cached rates.
+   *
+   * @param groupId        the group id
+   * @param accessoryIds   the accessory ids
+   * @param pickupDateTime the pickup date and time
+   * @param returnDateTime the return date and time
+   * @return the quote
+   * @throws GroupNotFoundException     the group not found exception
+   * @throws AccessoryNotFoundException the accessory not found exception
+   */
+  public PriceQuote quote(UUID groupId, List<UUID> accessoryIds,
+                          LocalDateTime pickupDateTime, LocalDateTime returnDateTime)
+      throws GroupNotFoundException, AccessoryNotFoundException {
+    RateTable table = groupRates.get(groupId);
+    if (table == null) {
+      throw new GroupNotFoundException();
+    }
+
+    long accessoriesDailyCents = 0;
+    for (UUID accessoryId : accessoryIds) {
+      Long cents = accessoryRates.get(accessoryId);
+      if (cents == null) {
+        throw new AccessoryNotFoundException();
+      }
+      accessoriesDailyCents += cents;
+    }
+
+    int days = rentalDays(pickupDateTime, returnDateTime);
+    return price(table.sum(pickupDateTime.toLocalDate(), days), accessoriesDailyCents, days);
+  }
+
+  /**
+   * Quotes a reservation for loaded entities, using the cached table while its rate is current.
+   *
+   * @param group          the group
+   * @param accessories    the accessories
+   * @param pickupDateTime the pickup date and time
+   * @param returnDateTime the return date and time
+   * @return the quote
+   */
+  public PriceQuote quote(Group group, List<Accessory> accessories,
+                          LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+    long dailyCents = toCents(group.getDailyRate());
+    int days = rentalDays(pickupDateTime, returnDateTime);
+    LocalDate from = pickupDateTime.toLocalDate();
+
+    RateTable table = groupRates.get(group.getId());
+    long groupCents = table != null && table.dailyCents() == dailyCents
+        ? table.sum(from, days)
+        : RateTable.sumDayByDay(dailyCents, from, days, rules);
+
+    long accessoriesDailyCents = 0;
+    for (Accessory accessory : accessories) {
+      accessoriesDailyCents += toCents(accessory.getDailyRate());
+    }
+    return price(groupCents, accessoriesDailyCents, days);
+  }
+
+  /**
+   * Refreshes the rate of a group once the surrounding transaction commits.
+   *
+   * @param group the saved group
+   */
+  public void groupSaved(Group group) {
+    UUID id = group.getId();
+    long dailyCents = toCents(group.getDailyRate());
+    afterCommit(() -> groupRates.put(id, RateTable.compile(dailyCents, LocalDate.now(), rules)));
+  }
+
+  /**
+   * Drops the rate of a group once the surrounding transaction commits.
+   *
+   * @param groupId the removed group id
+   */
+  public void groupRemoved(UUID groupId) {
+    afterCommit(() -> groupRates.remove(groupId));
+  }
+
+  /**
+   * Refreshes the rate of an accessory once the surrounding transaction commits.
+   *
+   * @param accessory the saved accessory
+   */
+  public void accessorySaved(Accessory accessory) {
+    UUID id = accessory.getId();
+    long dailyCents = toCents(accessory.getDailyRate());
+    afterCommit(() -> accessoryRates.put(id, dailyCents));
+  }
+
+  /**
+   * Drops the rate of an accessory once the surrounding transaction commits.
+   *
+   * @param accessoryId the removed accessory id
+   */
+  public void accessoryRemoved(UUID accessoryId) {
+    afterCommit(() -> accessoryRates.remove(accessoryId));
+  }
+
+  /**
+   * Counts the rental days of a period, a started day counting as a whole one.
+   *
+   * @param pickupDateTime the pickup date and time
+   * @param returnDateTime the return date and time
+   * @return the rental days, at least one
+   * @throws InvalidRentalPeriodException if the period is too long to count in days
+   */
+  public static int rentalDays(LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+    long seconds = Duration.between(pickupDateTime, returnDateTime).getSeconds();
+    long days = (seconds + SECONDS_PER_DAY - 1) / SECONDS_PER_DAY;
+    try {
+      return Math.toIntExact(Math.max(1, days));
+    } catch (ArithmeticException e) {
+      throw new InvalidRentalPeriodException();
+    }
+  }
+
+  private PriceQuote price(long groupCents, long accessoriesDailyCents, int days) {
+    long accessoriesCents = accessoriesDailyCents * days;
+    long subtotal = groupCents + accessoriesCents;
+    long discount = days >= rules.longTermDays()
+        ? (subtotal * rules.longTermDiscountPercent() + 50) / 100
+        : 0;
+
+    return new PriceQuote(days, groupCents, accessoriesCents, discount, subtotal - discount);
+  }
+
+  private static long toCents(Double rate) {
+    return rate == null ? 0 : Math.round(rate * 100);
+  }
+
+  private static void afterCommit(Runnable refresh) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          refresh.run();
+        }
+      });
+    } else {
+      refresh.run();
+    }
+  }
+}
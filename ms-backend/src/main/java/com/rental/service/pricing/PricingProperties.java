@@ -0,0 +1,77 @@
+package com.rental.service.pricing;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Pricing rules, bound from the {@code reservation.pricing.*} properties.
+ *
+ * <p>Weekend and seasonal percentages adjust the group daily rate of the days they cover and
+ * add up when both apply. The long-term discount applies to the whole reservation once it
+ * reaches the configured number of days.</p>
+ *
+ * @param weekendSurchargePercent  the percentage added to the group rate on Saturdays and Sundays
+ * @param seasons                  the seasonal adjustments of the group rate
+ * @param longTermDays             the rental days from which the long-term discount applies
+ * @param longTermDiscountPercent  the percentage taken off long-term reservations
+ * @param horizonDays              the days, from today, covered by the precomputed rate tables
+ */
+@ConfigurationProperties(prefix = "reservation.pricing")
+public record PricingProperties(
+    @DefaultValue("0") int weekendSurchargePercent,
+    @DefaultValue List<Season> seasons,
+    @DefaultValue("7") int longTermDays,
+    @DefaultValue("0") int longTermDiscountPercent,
+    @DefaultValue("730") int horizonDays
+) {
+
+  /**
+   * Gets the percentage that adjusts the group rate on the given day.
+   *
+   * @param date the day
+   * @return the percentage, negative for discounts
+   */
+  public int percentFor(LocalDate date) {
+    int percent = 0;
+
+    DayOfWeek dayOfWeek = date.getDayOfWeek();
+    if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+      percent += weekendSurchargePercent;
+    }
+
+    MonthDay monthDay = MonthDay.from(date);
+    for (Season season : seasons) {
+      if (season.contains(monthDay)) {
+        percent += season.percent();
+      }
+    }
+    return percent;
+  }
+
+  /**
+   * A yearly period with its own rate adjustment, written as {@code --MM-dd}.
+   *
+   * @param from    the first day of the season
+   * @param to      the last day of the season, may be earlier than from to wrap the new year
+   * @param percent the percentage added to the group rate, negative for discounts
+   */
+  public record Season(MonthDay from, MonthDay to, int percent) {
+
+    /**
+     * Checks whether the day falls in the season.
+     *
+     * @param day the day
+     * @return true if the day is in the season
+     */
+    public boolean contains(MonthDay day) {
+      if (from.isAfter(to)) {
+        return !day.isBefore(from) || !day.isAfter(to);
+      }
+      return !day.isBefore(from) && !day.isAfter(to);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.rental.service.pricing;
+
+import com.rental.entity.Accessory;
+import com.rental.entity.Group;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener of {@link Group} and {@link Accessory} that keeps the {@link PricingEngine}
+ * rates in step with the database.
+ *
+ * <p>The engine is looked up lazily: it depends on the repositories, which are only ready once
+ * Hibernate has created this listener. Without an engine, as in repository slice tests, the
+ * callbacks do nothing.</p>
+ */
+@Component
+public class PricingRefreshListener {
+
+  private final ObjectProvider<PricingEngine> pricingEngine;
+
+  public PricingRefreshListener(ObjectProvider<PricingEngine> pricingEngine) {
+    this.pricingEngine = pricingEngine;
+  }
+
+  @PostPersist
+  @PostUpdate
+  void saved(Object entity) {
+    pricingEngine.ifAvailable(engine -> {
+      if (entity instanceof Group group) {
+        engine.groupSaved(group);
+      } else if (entity instanceof Accessory accessory) {
+        engine.accessorySaved(accessory);
+      }
+    });
+  }
+
+  @PostRemove
+  void removed(Object entity) {
+    pricingEngine.ifAvailable(engine -> {
+      if (entity instanceof Group group) {
+        engine.groupRemoved(group.getId());
+      } else if (entity instanceof Accessory accessory) {
+        engine.accessoryRemoved(accessory.getId());
+      }
+    });
+  }
+}
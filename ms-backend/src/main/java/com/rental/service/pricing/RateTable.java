@@ -0,0 +1,84 @@
+package com.rental.service.pricing;
+
+import java.time.LocalDate;
+
+/**
+ * Group daily rates of a range of days, in cents, stored as prefix sums.
+ *
+ * <p>The cost of any period inside the range is the difference of two entries. Days outside
+ * the range are priced one by one with the same rules.</p>
+ */
+public final class RateTable {
+
+  private final long dailyCents;
+  private final long baseDay;
+  private final long[] prefix;
+  private final PricingProperties rules;
+
+  private RateTable(long dailyCents, long baseDay, long[] prefix, PricingProperties rules) {
+    this.dailyCents = dailyCents;
+    this.baseDay = baseDay;
+    this.prefix = prefix;
+    this.rules = rules;
+  }
+
+  /**
+   * Compiles the table of a daily rate from the base day over the rules horizon.
+   *
+   * @param dailyCents the group daily rate, in cents
+   * @param baseDay    the first day of the table
+   * @param rules      the pricing rules
+   * @return the rate table
+   */
+  public static RateTable compile(long dailyCents, LocalDate baseDay, PricingProperties rules) {
+    int days = Math.max(0, rules.horizonDays());
+    long[] prefix = new long[days + 1];
+
+    LocalDate day = baseDay;
+    for (int i = 0; i < days; i++) {
+      prefix[i + 1] = prefix[i] + dayCents(dailyCents, day, rules);
+      day = day.plusDays(1);
+    }
+    return new RateTable(dailyCents, baseDay.toEpochDay(), prefix, rules);
+  }
+
+  /**
+   * Gets the group daily rate the table was compiled from.
+   *
+   * @return the daily rate, in cents
+   */
+  public long dailyCents() {
+    return dailyCents;
+  }
+
+  /**
+   * Sums the rates of consecutive days.
+   *
+   * @param from the first day
+   * @param days the number of days
+   * @return the sum, in cents
+   */
+  public long sum(LocalDate from, int days) {
+    long start = from.toEpochDay() - baseDay;
+    long end = start + days;
+    if (start >= 0 && end < prefix.length) {
+      return prefix[(int) end] - prefix[(int) start];
+    }
+    return sumDayByDay(dailyCents, from, days, rules);
+  }
+
+  static long sumDayByDay(long dailyCents, LocalDate from, int days, PricingProperties rules) {
+    long total = 0;
+    LocalDate day = from;
+    for (int i = 0; i < days; i++) {
+      total += dayCents(dailyCents, day, rules);
+      day = day.plusDays(1);
+    }
+    return total;
+  }
+
+  private static long dayCents(long dailyCents, LocalDate day, PricingProperties rules) {
+    long percent = Math.max(0, 100L + rules.percentFor(day));
+    return (dailyCents * percent + 50) / 100;
+  }
+}
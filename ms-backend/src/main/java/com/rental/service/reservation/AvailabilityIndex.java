@@ -0,0 +1,269 @@
+package com.rental.service.reservation;
+
+import com.rental.entity.Group;
+import com.rental.enums.ReservationStatus;
+import com.rental.repository.ReservationRepository;
+import com.rental.repository.projection.ReservationWindow;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of booked vehicles per group and day.
+ *
+ * <p>Each group keeps a counter of booked vehicles for every calendar day, so checking a
+ * rental period is a scan over its days instead of a range query on tb_reservations. A
+ * reservation occupies a vehicle from its pickup day through its return day, both
+ * inclusive. The index is rebuilt from the database at startup and updated as reservations
+ * are created and cancelled.</p>
+ *
+ * <p>The rebuild only loads reservations returning on or after its day, so days before it are
+ * never counted, neither when booking nor when releasing.</p>
+ */
+@Component
+public class AvailabilityIndex {
+
+    private static final int GROWTH_SLACK_DAYS = 32;
+
+    private final ReservationRepository reservationRepository;
+    private final int defaultCapacity;
+    private final Map<UUID, GroupCalendar> calendars = new ConcurrentHashMap<>();
+    private volatile long firstCountedDay = Long.MIN_VALUE;
+
+    @Autowired
+    public AvailabilityIndex(ReservationRepository reservationRepository,
+                             @Value("${reservation.availability.default-capacity:10}") int defaultCapacity) {
+        this.reservationRepository = reservationRepository;
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * Rebuilds the index from the reservations that still hold a vehicle.
+     */
+    @PostConstruct
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        long fromDay = today.toEpochDay();
+        List<ReservationWindow> windows = reservationRepository.findWindowsReturningAfter(
+                today.atStartOfDay(), ReservationStatus.CANCELLED);
+
+        Map<UUID, GroupCalendar> rebuilt = new HashMap<>();
+        for (ReservationWindow window : windows) {
+            rebuilt.computeIfAbsent(window.getGroupId(), id -> new GroupCalendar())
+                    .add(Math.max(firstDay(window.getPickupDateTime()), fromDay),
+                            lastDay(window.getPickupDateTime(), window.getReturnDateTime()), 1);
+        }
+
+        calendars.clear();
+        calendars.putAll(rebuilt);
+        firstCountedDay = fromDay;
+    }
+
+    /**
+     * Number of vehicles the group holds, falling back to the configured default when unset.
+     *
+     * @param group the group
+     * @return the capacity
+     */
+    public int capacityOf(Group group) {
+        return group.getQuantity() != null ? group.getQuantity() : defaultCapacity;
+    }
+
+    /**
+     * Counts the vehicles of a group that are free for the whole period.
+     *
+     * @param groupId        the group id
+     * @param capacity       the number of vehicles in the group
+     * @param pickupDateTime the pickup date and time
+     * @param returnDateTime the return date and time
+     * @return the number of free vehicles
+     */
+    public int available(UUID groupId, int capacity, LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        GroupCalendar calendar = calendars.get(groupId);
+        if (calendar == null) {
+            return capacity;
+        }
+
+        int booked = calendar.maxBooked(firstDay(pickupDateTime), lastDay(pickupDateTime, returnDateTime));
+        return Math.max(0, capacity - booked);
+    }
+
+    /**
+     * Books one vehicle of the group if one is free for the whole period.
+     *
+     * <p>When called inside a transaction the booking is released again if it rolls back.</p>
+     *
+     * @param groupId        the group id
+     * @param capacity       the number of vehicles in the group
+     * @param pickupDateTime the pickup date and time
+     * @param returnDateTime the return date and time
+     * @return true if the vehicle was booked
+     */
+    public boolean tryReserve(UUID groupId, int capacity, LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        long from = countedFrom(pickupDateTime);
+        long to = lastDay(pickupDateTime, returnDateTime);
+        if (from > to) {
+            return true;
+        }
+
+        if (!calendars.computeIfAbsent(groupId, id -> new GroupCalendar()).tryAdd(from, to, capacity)) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(groupId, from, to);
+                    }
+                }
+            });
+        }
+
+        return true;
+    }
+
+    /**
+     * Frees the vehicle booked for the period, once the surrounding transaction commits.
+     *
+     * @param groupId        the group id
+     * @param pickupDateTime the pickup date and time
+     * @param returnDateTime the return date and time
+     */
+    public void releaseAfterCommit(UUID groupId, LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        long from = countedFrom(pickupDateTime);
+        long to = lastDay(pickupDateTime, returnDateTime);
+        if (from > to) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(groupId, from, to);
+                }
+            });
+        } else {
+            release(groupId, from, to);
+        }
+    }
+
+    private void release(UUID groupId, long from, long to) {
+        GroupCalendar calendar = calendars.get(groupId);
+        if (calendar != null) {
+            calendar.add(from, to, -1);
+        }
+    }
+
+    private long countedFrom(LocalDateTime pickupDateTime) {
+        return Math.max(firstDay(pickupDateTime), firstCountedDay);
+    }
+
+    private static long firstDay(LocalDateTime pickupDateTime) {
+        return pickupDateTime.toLocalDate().toEpochDay();
+    }
+
+    private static long lastDay(LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        return Math.max(firstDay(pickupDateTime), returnDateTime.toLocalDate().toEpochDay());
+    }
+
+    /**
+     * Booked vehicle counters of one group, indexed by epoch day.
+     *
+     * <p>Guarded by a {@link ReentrantLock} rather than {@code synchronized}, so a virtual
+     * thread waiting for the calendar does not pin its carrier thread.</p>
+     */
+    private static final class GroupCalendar {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long baseDay;
+        private int[] booked = new int[0];
+
+        int maxBooked(long from, long to) {
+            lock.lock();
+            try {
+                return maxBookedLocked(from, to);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean tryAdd(long from, long to, int capacity) {
+            lock.lock();
+            try {
+                if (maxBookedLocked(from, to) >= capacity) {
+                    return false;
+                }
+
+                addLocked(from, to, 1);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void add(long from, long to, int delta) {
+            lock.lock();
+            try {
+                addLocked(from, to, delta);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int maxBookedLocked(long from, long to) {
+            long start = Math.max(from, baseDay);
+            long end = Math.min(to, baseDay + booked.length - 1);
+
+            int max = 0;
+            for (long day = start; day <= end; day++) {
+                max = Math.max(max, booked[(int) (day - baseDay)]);
+            }
+            return max;
+        }
+
+        private void addLocked(long from, long to, int delta) {
+            ensureRange(from, to);
+
+            for (long day = from; day <= to; day++) {
+                int index = (int) (day - baseDay);
+                booked[index] += delta;
+            }
+        }
+
+        private void ensureRange(long from, long to) {
+            if (booked.length == 0) {
+                baseDay = from;
+                booked = new int[(int) (to - from + 1) + GROWTH_SLACK_DAYS];
+                return;
+            }
+
+            long lastDay = baseDay + booked.length - 1;
+            if (from >= baseDay && to <= lastDay) {
+                return;
+            }
+
+            long newBase = Math.min(baseDay, from);
+            long newLast = Math.max(lastDay, to + GROWTH_SLACK_DAYS);
+            int[] grown = new int[(int) (newLast - newBase + 1)];
+            System.arraycopy(booked, 0, grown, (int) (baseDay - newBase), booked.length);
+
+            baseDay = newBase;
+            booked = grown;
+        }
+    }
+}
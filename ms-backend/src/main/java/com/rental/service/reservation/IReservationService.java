@@ -1,19 +1,35 @@
 package com.rental.service.reservation;
 
+import com.rental.controller.dto.reservation.AvailabilityResponse;
 import com.rental.controller.dto.reservation.ReservationRequest;
+import com.rental.controller.dto.reservation.ReservationResponse;
 import com.rental.entity.Reservation;
+import com.rental.repository.projection.CustomerReservationRow;
 import com.rental.service.exception.CustomerNotFoundException;
 import com.rental.service.exception.GroupNotFoundException;
+import com.rental.service.exception.GroupUnavailableException;
 import com.rental.service.exception.ReservationNotFoundException;
+import com.rental.utils.CursorUtils.CreatedAtPosition;
 
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface IReservationService {
 
-    Reservation createReservation(ReservationRequest reservationDto) throws CustomerNotFoundException, GroupNotFoundException;
+    Reservation createReservation(ReservationRequest reservationDto) throws CustomerNotFoundException, GroupNotFoundException, GroupUnavailableException;
+
+    Reservation cancelReservation(UUID id) throws ReservationNotFoundException;
+
+    AvailabilityResponse getAvailability(UUID groupId, LocalDateTime pickupDateTime, LocalDateTime returnDateTime) throws GroupNotFoundException;
 
     Reservation getReservationById(UUID id) throws ReservationNotFoundException;
 
-    List<Reservation> getAllReservations(int pageNumber, int pageSize);
+    List<ReservationResponse> getAllReservations(int pageNumber, int pageSize);
+
+    Slice<ReservationResponse> getReservationsAfter(UUID after, int limit);
+
+    Slice<CustomerReservationRow> getCustomerReservations(UUID customerId, CreatedAtPosition before, int limit) throws CustomerNotFoundException;
 }
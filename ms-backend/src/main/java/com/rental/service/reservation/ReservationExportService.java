@@ -0,0 +1,108 @@
+package com.rental.service.reservation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rental.repository.ReservationRepository;
+import com.rental.repository.projection.ReservationExportRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes every reservation to an output stream for reporting.
+ *
+ * <p>Rows come from a forward-only database cursor with a fixed fetch size and are written as
+ * soon as they are read, so memory use does not depend on the number of reservations.</p>
+ */
+@Service
+public class ReservationExportService {
+
+    /**
+     * The export formats.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    @Autowired
+    public ReservationExportService(ReservationRepository reservationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper) {
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.ndjsonWriter = objectMapper.writerFor(ReservationExportRow.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.registerModule(new JavaTimeModule());
+        csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.csvWriter = csvMapper.writer(csvMapper.schemaFor(ReservationExportRow.class).withHeader())
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Writes all reservations in the given format.
+     *
+     * @param format the format
+     * @param out    the output stream, left open
+     * @return the number of rows written
+     */
+    public long export(Format format, OutputStream out) {
+        ObjectWriter writer = format == Format.CSV ? csvWriter : ndjsonWriter;
+
+        Long written = transactionTemplate.execute(status -> {
+            try (Stream<ReservationExportRow> rows = reservationRepository.streamExportRows();
+                 SequenceWriter sequence = writer.writeValues(out)) {
+                long count = 0;
+                for (ReservationExportRow row : (Iterable<ReservationExportRow>) rows::iterator) {
+                    sequence.write(row);
+                    count++;
+                }
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        try {
+            if (format == Format.NDJSON && written != null && written > 0) {
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written == null ? 0 : written;
+    }
+}
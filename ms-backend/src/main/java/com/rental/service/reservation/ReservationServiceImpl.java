@@ -1,8 +1,8 @@
 package com.rental.service.reservation;
 
-import static com.rental.utils.ReservationUtils.*;
-
+import com.rental.controller.dto.reservation.AvailabilityResponse;
 import com.rental.controller.dto.reservation.ReservationRequest;
+import com.rental.controller.dto.reservation.ReservationResponse;
 
 import com.rental.entity.Accessory;
 import com.rental.entity.Reservation;
@@ -12,24 +12,34 @@ import com.rental.enums.ReservationStatus;
 import com.rental.producer.ReservationProducer;
 
 import com.rental.repository.ReservationRepository;
+import com.rental.repository.projection.CustomerReservationRow;
 
 import com.rental.service.AccessoryService;
 import com.rental.service.GroupService;
 import com.rental.service.customer.ICustomerService;
 import com.rental.service.exception.CustomerNotFoundException;
 import com.rental.service.exception.GroupNotFoundException;
+import com.rental.service.exception.GroupUnavailableException;
 import com.rental.service.exception.ReservationNotFoundException;
+import com.rental.service.pricing.PricingEngine;
+
+import com.rental.utils.CursorUtils.CreatedAtPosition;
+import com.rental.utils.RentalPeriodUtils;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ReservationServiceImpl implements IReservationService {
@@ -39,24 +49,34 @@ public class ReservationServiceImpl implements IReservationService {
     private final AccessoryService accessoryService;
     private final ICustomerService customerService;
     private final GroupService groupService;
+    private final AvailabilityIndex availabilityIndex;
+    private final PricingEngine pricingEngine;
 
     @Autowired
-    public ReservationServiceImpl(ReservationRepository reservationRepository, ReservationProducer reservationProducer, AccessoryService accessoryService, ICustomerService customerService, GroupService groupService) {
+    public ReservationServiceImpl(ReservationRepository reservationRepository, ReservationProducer reservationProducer, AccessoryService accessoryService, ICustomerService customerService, GroupService groupService, AvailabilityIndex availabilityIndex, PricingEngine pricingEngine) {
         this.reservationRepository = reservationRepository;
         this.reservationProducer = reservationProducer;
         this.accessoryService = accessoryService;
         this.customerService = customerService;
         this.groupService = groupService;
+        this.availabilityIndex = availabilityIndex;
+        this.pricingEngine = pricingEngine;
     }
 
     @Override
     @Transactional
-    public Reservation createReservation(ReservationRequest request) throws CustomerNotFoundException, GroupNotFoundException {
+    public Reservation createReservation(ReservationRequest request) throws CustomerNotFoundException, GroupNotFoundException, GroupUnavailableException {
+        RentalPeriodUtils.validate(request.pickupDateTime(), request.returnDateTime());
         var customer = customerService.getById(request.customerId());
         var group = groupService.getGroupById(request.groupId());
+
+        var capacity = availabilityIndex.capacityOf(group);
+        if (!availabilityIndex.tryReserve(group.getId(), capacity, request.pickupDateTime(), request.returnDateTime())) {
+            throw new GroupUnavailableException();
+        }
+
         List<Accessory> accessories = accessoryService.getAccessoriesById(request.accessoryIds());
-        var totalDays = calculateTotalDays(request.pickupDateTime(), request.returnDateTime());
-        var totalAmount = calculateTotalAmount(group.getDailyRate(), totalDays, accessories);
+        var quote = pricingEngine.quote(group, accessories, request.pickupDateTime(), request.returnDateTime());
 
         var reservation = Reservation.builder()
                 .customer(customer)
@@ -64,26 +84,90 @@ public class ReservationServiceImpl implements IReservationService {
                 .accessories(accessories)
                 .pickupDateTime(request.pickupDateTime())
                 .returnDateTime(request.returnDateTime())
-                .totalAmount(totalAmount)
-                .totalDays(totalDays)
+                .totalAmount(quote.totalAmount())
+                .totalDays(quote.days())
                 .reservationStatus(ReservationStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        reservationProducer.publishMessageEmail(reservation);
+        var savedReservation = reservationRepository.save(reservation);
+        reservationProducer.publishMessageEmail(savedReservation);
+
+        return savedReservation;
+    }
+
+    @Override
+    @Transactional
+    public Reservation cancelReservation(UUID id) throws ReservationNotFoundException {
+        var reservation = getReservationById(id);
+
+        if (reservation.getReservationStatus() == ReservationStatus.CANCELLED) {
+            return reservation;
+        }
+
+        reservation.setReservationStatus(ReservationStatus.CANCELLED);
+        reservation.setUpdatedAt(LocalDateTime.now());
+        availabilityIndex.releaseAfterCommit(reservation.getGroup().getId(), reservation.getPickupDateTime(), reservation.getReturnDateTime());
 
         return reservationRepository.save(reservation);
     }
 
+    @Override
+    public AvailabilityResponse getAvailability(UUID groupId, LocalDateTime pickupDateTime, LocalDateTime returnDateTime) throws GroupNotFoundException {
+        RentalPeriodUtils.validate(pickupDateTime, returnDateTime);
+        var group = groupService.getGroupById(groupId);
+        var capacity = availabilityIndex.capacityOf(group);
+        var available = availabilityIndex.available(groupId, capacity, pickupDateTime, returnDateTime);
+
+        return new AvailabilityResponse(groupId, pickupDateTime, returnDateTime, capacity, available);
+    }
+
     @Override
     public Reservation getReservationById(UUID id) throws ReservationNotFoundException {
         return reservationRepository.findById(id).orElseThrow(ReservationNotFoundException::new);
     }
 
     @Override
-    public List<Reservation> getAllReservations(int pageNumber, int pageSize) {
+    @Transactional(readOnly = true)
+    public List<ReservationResponse> getAllReservations(int pageNumber, int pageSize) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        Page<Reservation> page = reservationRepository.findAll(pageable);
-        return page.toList();
+        return findWithDetails(reservationRepository.findPageIds(pageable).getContent());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReservationResponse> getReservationsAfter(UUID after, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        Slice<UUID> ids = reservationRepository.findIdsAfter(after, pageable);
+
+        return new SliceImpl<>(findWithDetails(ids.getContent()), pageable, ids.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CustomerReservationRow> getCustomerReservations(UUID customerId, CreatedAtPosition before, int limit) throws CustomerNotFoundException {
+        customerService.ensureExists(customerId);
+
+        Pageable pageable = PageRequest.of(0, limit);
+        if (before == null) {
+            return reservationRepository.findCustomerHistory(customerId, pageable);
+        }
+        return reservationRepository.findCustomerHistoryBefore(customerId, before.createdAt(), before.id(), pageable);
+    }
+
+    private List<ReservationResponse> findWithDetails(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // The accessories fetch repeats a reservation once per accessory; the rows share one entity.
+        Map<UUID, ReservationResponse> reservationsById = reservationRepository.findWithDetailsByIdIn(ids)
+                .stream()
+                .map(details -> ReservationResponse.fromEntity(details.reservation(), details.customerName()))
+                .collect(Collectors.toMap(ReservationResponse::id, Function.identity(), (first, repeated) -> first));
+
+        return ids.stream()
+                .map(reservationsById::get)
+                .toList();
     }
 }
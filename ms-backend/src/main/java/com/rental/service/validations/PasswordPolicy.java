@@ -0,0 +1,81 @@
+package com.rental.service.validations;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Password policy checked in a single pass over the password.
+ *
+ * <p>The character rules are compiled once into a table that maps every ASCII character to
+ * the rules it satisfies, so validation only ORs table entries together. An accepted password
+ * allocates nothing; the error list is built only when a rule fails, in the same order and
+ * with the same messages as the former per-rule validators.</p>
+ */
+@Component
+public class PasswordPolicy implements IPasswordValidator {
+
+    private static final int MIN_LENGTH = 8;
+    private static final String LENGTH_MESSAGE = "Password must have at least " + MIN_LENGTH + " characters";
+
+    private static final CharacterRule[] RULES = {
+            new CharacterRule(range('a', 'z'), "Password must have at least one lowercase character"),
+            new CharacterRule(range('0', '9'), "Password must have at least one numeric character"),
+            new CharacterRule("!@#$%^&*(),.?\":{}|<>", "Password must have at least one special character"),
+            new CharacterRule(range('A', 'Z'), "Password must have at least one uppercase character")
+    };
+
+    private final int[] rulesByCharacter = new int[128];
+    private final int allRules;
+
+    /**
+     * Instantiates a new Password policy, compiling the character rules.
+     */
+    public PasswordPolicy() {
+        for (int rule = 0; rule < RULES.length; rule++) {
+            for (char c : RULES[rule].characters().toCharArray()) {
+                rulesByCharacter[c] |= 1 << rule;
+            }
+        }
+        this.allRules = (1 << RULES.length) - 1;
+    }
+
+    @Override
+    public List<String> validate(String pass) {
+        int length = pass == null ? 0 : pass.length();
+
+        int satisfied = 0;
+        for (int i = 0; i < length && satisfied != allRules; i++) {
+            char c = pass.charAt(i);
+            if (c < rulesByCharacter.length) {
+                satisfied |= rulesByCharacter[c];
+            }
+        }
+
+        if (length >= MIN_LENGTH && satisfied == allRules) {
+            return List.of();
+        }
+
+        List<String> errors = new ArrayList<>(RULES.length + 1);
+        if (length < MIN_LENGTH) {
+            errors.add(LENGTH_MESSAGE);
+        }
+        for (int rule = 0; rule < RULES.length; rule++) {
+            if ((satisfied & (1 << rule)) == 0) {
+                errors.add(RULES[rule].message());
+            }
+        }
+        return errors;
+    }
+
+    private static String range(char first, char last) {
+        StringBuilder characters = new StringBuilder();
+        for (char c = first; c <= last; c++) {
+            characters.append(c);
+        }
+        return characters.toString();
+    }
+
+    private record CharacterRule(String characters, String message) { }
+}
@@ -1,5 +0,0 @@
-package com.rental.service.validations.validatorImpl;
-
-public interface IValidator {
-    String validate(String pass);
-}
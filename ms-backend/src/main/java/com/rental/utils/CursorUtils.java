@@ -0,0 +1,117 @@
+package com.rental.utils;
+
+import com.rental.service.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Utility class for the opaque cursors of keyset pagination.
+ */
+public class CursorUtils {
+
+    /**
+     * The lowest id, used as the position before the first page.
+     */
+    public static final UUID START = new UUID(0L, 0L);
+
+    private static final int CREATED_AT_CURSOR_LENGTH = 28;
+
+    /**
+     * Encodes an id as an opaque cursor.
+     *
+     * @param id the id of the last element of a page
+     * @return the cursor
+     */
+    public static String encode(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor back into the id to seek after.
+     *
+     * @param cursor the cursor, or null for the first page
+     * @return the id to seek after
+     */
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(decodeBytes(cursor, 16));
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Encodes a creation time and id as an opaque cursor, for pages ordered by creation time.
+     *
+     * @param position the creation time and id of the last element of a page
+     * @return the cursor
+     */
+    public static String encode(CreatedAtPosition position) {
+        LocalDateTime createdAt = position.createdAt();
+        ByteBuffer buffer = ByteBuffer.allocate(CREATED_AT_CURSOR_LENGTH)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(position.id().getMostSignificantBits())
+                .putLong(position.id().getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor back into the creation time and id to seek past.
+     *
+     * @param cursor the cursor, or null for the first page
+     * @return the position to seek past, or null for the first page
+     */
+    public static CreatedAtPosition decodeCreatedAt(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(decodeBytes(cursor, CREATED_AT_CURSOR_LENGTH));
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        if (nano < 0 || nano > 999_999_999) {
+            throw new InvalidCursorException();
+        }
+
+        try {
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+            return new CreatedAtPosition(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (DateTimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private static byte[] decodeBytes(String cursor, int length) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+
+        if (bytes.length != length) {
+            throw new InvalidCursorException();
+        }
+        return bytes;
+    }
+
+    /**
+     * Keyset position of a page ordered by creation time, with the id breaking ties.
+     *
+     * @param createdAt the creation time
+     * @param id        the id
+     */
+    public record CreatedAtPosition(LocalDateTime createdAt, UUID id) { }
+}
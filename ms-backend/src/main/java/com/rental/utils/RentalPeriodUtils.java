@@ -0,0 +1,67 @@
+package com.rental.utils;
+
+import com.rental.service.exception.InvalidRentalPeriodException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Utility class for the bounds of a rental period.
+ *
+ * <p>The availability calendars and rate tables are indexed by day, so a period is only
+ * accepted when it ends after it starts, lasts at most {@link #MAX_RENTAL_DAYS} days and is
+ * picked up at most {@link #MAX_ADVANCE_DAYS} days ahead.</p>
+ */
+public class RentalPeriodUtils {
+
+    /**
+     * The longest rental, in days.
+     */
+    public static final int MAX_RENTAL_DAYS = 90;
+
+    /**
+     * How far ahead a vehicle can be picked up, in days.
+     */
+    public static final int MAX_ADVANCE_DAYS = 730;
+
+    /**
+     * Checks that the return comes after the pickup.
+     *
+     * @param pickupDateTime the pickup date and time
+     * @param returnDateTime the return date and time
+     * @return true if either is missing or the return is after the pickup
+     */
+    public static boolean isReturnAfterPickup(LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        return pickupDateTime == null || returnDateTime == null || returnDateTime.isAfter(pickupDateTime);
+    }
+
+    /**
+     * Checks that the period is short enough and does not start too far ahead.
+     *
+     * @param pickupDateTime the pickup date and time
+     * @param returnDateTime the return date and time
+     * @return true if either is missing or the period is within the bounds
+     */
+    public static boolean isWithinBounds(LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        if (pickupDateTime == null || returnDateTime == null) {
+            return true;
+        }
+
+        return !pickupDateTime.isAfter(LocalDateTime.now().plusDays(MAX_ADVANCE_DAYS))
+                && !returnDateTime.isAfter(pickupDateTime.plusDays(MAX_RENTAL_DAYS));
+    }
+
+    /**
+     * Validates a period that did not go through bean validation.
+     *
+     * @param pickupDateTime the pickup date and time
+     * @param returnDateTime the return date and time
+     * @throws InvalidRentalPeriodException if the period is missing, reversed or out of bounds
+     */
+    public static void validate(LocalDateTime pickupDateTime, LocalDateTime returnDateTime) {
+        if (pickupDateTime == null || returnDateTime == null
+                || !isReturnAfterPickup(pickupDateTime, returnDateTime)
+                || !isWithinBounds(pickupDateTime, returnDateTime)) {
+            throw new InvalidRentalPeriodException();
+        }
+    }
+}
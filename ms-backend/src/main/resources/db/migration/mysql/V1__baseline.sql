@@ -0,0 +1,87 @@
+-- Schema as previously created by hibernate.ddl-auto=update.
+-- Databases that already have it are baselined at this version and skip this script.
+
+create table tb_addresses_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into tb_addresses_seq values (1);
+
+create table tb_persons (
+    id binary(16) not null,
+    person_type varchar(31) not null,
+    full_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    role enum ('ADMIN', 'MANAGER', 'USER'),
+    phone_number varchar(255),
+    document varchar(255),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table tb_addresses (
+    id bigint not null,
+    cep varchar(255),
+    street varchar(255),
+    neighborhood varchar(255),
+    city varchar(255),
+    state varchar(255),
+    customer_id binary(16),
+    primary key (id),
+    constraint uk_addresses_customer unique (customer_id),
+    constraint fk_addresses_customer foreign key (customer_id) references tb_persons (id)
+) engine=InnoDB;
+
+create table vehicle_groups (
+    id binary(16) not null,
+    name varchar(255),
+    vehicles varchar(255),
+    daily_rate float(53),
+    imageurl varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table vehicle (
+    id binary(16) not null,
+    model varchar(255),
+    license_plate varchar(255),
+    brand varchar(255),
+    color varchar(255),
+    year_of_manufacture varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table accessories (
+    id binary(16) not null,
+    name varchar(255),
+    description varchar(255),
+    quantity integer,
+    daily_rate float(53),
+    primary key (id)
+) engine=InnoDB;
+
+create table tb_reservations (
+    id binary(16) not null,
+    group_id binary(16) not null,
+    customer_id binary(16) not null,
+    pickup_date_time datetime(6),
+    return_date_time datetime(6),
+    payment_type tinyint,
+    total_amount float(53),
+    total_days integer,
+    reservation_status enum ('CANCELLED', 'CONFIRMED', 'PENDING'),
+    crated_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint fk_reservations_group foreign key (group_id) references vehicle_groups (id),
+    constraint fk_reservations_customer foreign key (customer_id) references tb_persons (id)
+) engine=InnoDB;
+
+create table reservation_accessories (
+    reservation_id binary(16) not null,
+    accessory_id binary(16) not null,
+    constraint fk_reservation_accessories_reservation foreign key (reservation_id) references tb_reservations (id),
+    constraint fk_reservation_accessories_accessory foreign key (accessory_id) references accessories (id)
+) engine=InnoDB;
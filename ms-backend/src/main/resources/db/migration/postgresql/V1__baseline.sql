@@ -0,0 +1,82 @@
+-- Schema as previously created by hibernate.ddl-auto=update.
+-- Databases that already have it are baselined at this version and skip this script.
+
+create sequence tb_addresses_seq start with 1 increment by 50;
+
+create table tb_persons (
+    id uuid not null,
+    person_type varchar(31) not null,
+    full_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    role varchar(255) check (role in ('ADMIN', 'MANAGER', 'USER')),
+    phone_number varchar(255),
+    document varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table tb_addresses (
+    id bigint not null,
+    cep varchar(255),
+    street varchar(255),
+    neighborhood varchar(255),
+    city varchar(255),
+    state varchar(255),
+    customer_id uuid unique,
+    primary key (id),
+    constraint fk_addresses_customer foreign key (customer_id) references tb_persons (id)
+);
+
+create table vehicle_groups (
+    id uuid not null,
+    name varchar(255),
+    vehicles varchar(255),
+    daily_rate float(53),
+    imageurl varchar(255),
+    primary key (id)
+);
+
+create table vehicle (
+    id uuid not null,
+    model varchar(255),
+    license_plate varchar(255),
+    brand varchar(255),
+    color varchar(255),
+    year_of_manufacture varchar(255),
+    primary key (id)
+);
+
+create table accessories (
+    id uuid not null,
+    name varchar(255),
+    description varchar(255),
+    quantity integer,
+    daily_rate float(53),
+    primary key (id)
+);
+
+create table tb_reservations (
+    id uuid not null,
+    group_id uuid not null,
+    customer_id uuid not null,
+    pickup_date_time timestamp(6),
+    return_date_time timestamp(6),
+    payment_type smallint check (payment_type between 0 and 3),
+    total_amount float(53),
+    total_days integer,
+    reservation_status varchar(255) check (reservation_status in ('PENDING', 'CONFIRMED', 'CANCELLED')),
+    crated_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_reservations_group foreign key (group_id) references vehicle_groups (id),
+    constraint fk_reservations_customer foreign key (customer_id) references tb_persons (id)
+);
+
+create table reservation_accessories (
+    reservation_id uuid not null,
+    accessory_id uuid not null,
+    constraint fk_reservation_accessories_reservation foreign key (reservation_id) references tb_reservations (id),
+    constraint fk_reservation_accessories_accessory foreign key (accessory_id) references accessories (id)
+);
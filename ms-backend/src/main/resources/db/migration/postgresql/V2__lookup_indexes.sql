@@ -0,0 +1,20 @@
+-- Login and registration: PersonRepository.findByEmail / existsByEmail
+create unique index ux_persons_email on tb_persons (email);
+
+-- VehicleRepository.findByLicensePlate
+create unique index ux_vehicle_license_plate on vehicle (license_plate);
+
+-- GroupRepository.findByName
+create unique index ux_vehicle_groups_name on vehicle_groups (name);
+
+-- Overlapping reservations of a group for a rental period
+create index ix_reservations_group_period on tb_reservations (group_id, pickup_date_time, return_date_time);
+
+-- Customer reservation history, newest first, keyset paged on (crated_at, id)
+create index ix_reservations_customer_history on tb_reservations (customer_id, crated_at, id);
+
+-- Reservation listing and export order
+create index ix_reservations_created on tb_reservations (crated_at, id);
+
+-- Accessories of a reservation; MySQL indexes foreign keys on its own, PostgreSQL does not
+create index ix_reservation_accessories_reservation on reservation_accessories (reservation_id);
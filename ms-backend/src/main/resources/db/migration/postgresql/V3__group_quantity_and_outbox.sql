@@ -0,0 +1,14 @@
+-- Fleet size of a group, read by the availability index; null falls back to the default capacity
+alter table vehicle_groups add column quantity integer;
+
+-- Transactional outbox of reservation emails
+create table tb_outbox_messages (
+    id uuid not null,
+    routing_key varchar(255) not null,
+    payload text not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+-- Outbox relay polling, oldest first
+create index ix_outbox_messages_created on tb_outbox_messages (created_at, id);
@@ -0,0 +1,87 @@
+package com.rental.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rental.controller.dto.group.GroupDto;
+import com.rental.entity.Group;
+import com.rental.repository.GroupRepository;
+import com.rental.service.GroupService;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(GroupService.class)
+public class GroupRepositoryTest {
+
+    private static final int GROUPS = 120;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void testBulkCreateIsSentInBatches() {
+        // Arrange
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < GROUPS; i++) {
+            groups.add(new Group("Group " + i, "Mobi, Uno", 120.00, "url", 10));
+        }
+        Statistics statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // Act
+        groupService.createGroups(groups);
+        testEntityManager.flush();
+
+        // Assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(GROUPS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(GROUPS / BATCH_SIZE + 1);
+        assertThat(groupRepository.count()).isEqualTo(GROUPS);
+    }
+
+    @Test
+    public void testGroupPagesAreProjectedWithoutLoadingEntities() {
+        // Arrange
+        for (int i = 0; i < 30; i++) {
+            testEntityManager.persist(new Group("Group " + i, "Mobi, Uno", 120.00, "url", 10));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // Act
+        List<GroupDto> first = groupService.getAllGroups(0, 20);
+        Slice<GroupDto> next = groupService.getGroupsAfter(first.get(first.size() - 1).id(), 20);
+
+        // Assert
+        assertThat(first).hasSize(20);
+        assertThat(next.getContent()).hasSize(10);
+        assertThat(next.hasNext()).isFalse();
+        assertThat(first.get(0).dailyRate()).isEqualTo(120.00);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,216 @@
+package com.rental.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rental.controller.dto.reservation.ReservationResponse;
+import com.rental.entity.Accessory;
+import com.rental.entity.Customer;
+import com.rental.entity.Group;
+import com.rental.entity.Reservation;
+import com.rental.enums.ReservationStatus;
+import com.rental.enums.Role;
+import com.rental.producer.ReservationProducer;
+import com.rental.repository.ReservationRepository;
+import com.rental.repository.projection.CustomerReservationRow;
+import com.rental.repository.projection.ReservationExportRow;
+import com.rental.service.AccessoryService;
+import com.rental.service.GroupService;
+import com.rental.service.customer.ICustomerService;
+import com.rental.service.exception.CustomerNotFoundException;
+import com.rental.service.pricing.PricingEngine;
+import com.rental.service.reservation.AvailabilityIndex;
+import com.rental.service.reservation.IReservationService;
+import com.rental.service.reservation.ReservationServiceImpl;
+import com.rental.utils.CursorUtils;
+import com.rental.utils.CursorUtils.CreatedAtPosition;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ReservationServiceImpl.class)
+public class ReservationRepositoryTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int HISTORY_SIZE = 35;
+
+    @Autowired
+    private IReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockBean
+    private ReservationProducer reservationProducer;
+
+    @MockBean
+    private AccessoryService accessoryService;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @MockBean
+    private GroupService groupService;
+
+    @MockBean
+    private AvailabilityIndex availabilityIndex;
+
+    @MockBean
+    private PricingEngine pricingEngine;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        Group group = testEntityManager.persist(new Group("Group A", "Mobi, Uno", 120.00, "url", 10));
+        Accessory gps = testEntityManager.persist(new Accessory("GPS", "Smartphone with gps.", 5, 90.00));
+        Accessory seat = testEntityManager.persist(new Accessory("Baby seat", "Up to 5 years.", 5, 30.00));
+
+        LocalDateTime pickup = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Customer customer = testEntityManager.persist(Customer.builder()
+                    .name("Customer " + i)
+                    .email("customer" + i + "@example.com")
+                    .password("password123")
+                    .role(Role.USER)
+                    .rawDocument("12345678900")
+                    .phoneNumber("11999999999")
+                    .build());
+
+            testEntityManager.persist(Reservation.builder()
+                    .customer(customer)
+                    .group(group)
+                    .accessories(List.of(gps, seat))
+                    .pickupDateTime(pickup)
+                    .returnDateTime(pickup.plusDays(3))
+                    .totalAmount(720.00)
+                    .totalDays(3)
+                    .reservationStatus(ReservationStatus.PENDING)
+                    .createdAt(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testReservationPageLoadsInBoundedQueries() {
+        // Act
+        List<ReservationResponse> page = reservationService.getAllReservations(0, PAGE_SIZE);
+
+        // Assert
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page.get(0).accessories()).hasSize(2);
+        assertThat(page.get(0).customer().name()).startsWith("Customer ");
+        assertThat(page.get(0).group().name()).isEqualTo("Group A");
+        assertThat(page.get(0).createdAt()).isAfter(page.get(PAGE_SIZE - 1).createdAt());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testReservationCursorPagesWithoutCount() {
+        // Act
+        Slice<ReservationResponse> first = reservationService.getReservationsAfter(CursorUtils.START, 60);
+        UUID last = first.getContent().get(first.getNumberOfElements() - 1).id();
+        Slice<ReservationResponse> second = reservationService.getReservationsAfter(last, 60);
+
+        // Assert
+        assertThat(first.getContent()).hasSize(60);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(PAGE_SIZE - 60);
+        assertThat(second.hasNext()).isFalse();
+        // UUID.compareTo is signed; the database orders ids like their hex strings.
+        assertThat(second.getContent()).allMatch(reservation -> reservation.id().toString().compareTo(last.toString()) > 0);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void testExportStreamsFlatRowsInOneQuery() {
+        // Act
+        List<ReservationExportRow> rows;
+        try (Stream<ReservationExportRow> stream = reservationRepository.streamExportRows()) {
+            rows = stream.toList();
+        }
+
+        // Assert
+        assertThat(rows).hasSize(PAGE_SIZE);
+        assertThat(rows.get(0).createdAt()).isBefore(rows.get(PAGE_SIZE - 1).createdAt());
+        assertThat(rows.get(0).customerName()).startsWith("Customer ");
+        assertThat(rows.get(0).groupName()).isEqualTo("Group A");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void testCustomerHistoryPagesWithoutLoadingTheCollection() throws CustomerNotFoundException {
+        // Arrange
+        Customer frequent = testEntityManager.persist(Customer.builder()
+                .name("Frequent renter")
+                .email("frequent@example.com")
+                .password("password123")
+                .role(Role.USER)
+                .rawDocument("12345678900")
+                .phoneNumber("11999999999")
+                .build());
+        Group group = testEntityManager.persist(new Group("Group B", "Onix, HB20", 150.00, "url", 10));
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            testEntityManager.persist(Reservation.builder()
+                    .customer(frequent)
+                    .group(group)
+                    .pickupDateTime(createdAt.plusDays(i))
+                    .returnDateTime(createdAt.plusDays(i + 2))
+                    .totalAmount(300.00)
+                    .totalDays(2)
+                    .reservationStatus(ReservationStatus.CONFIRMED)
+                    .createdAt(createdAt.minusHours(i / 2))
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // Act
+        Slice<CustomerReservationRow> first = reservationService.getCustomerReservations(frequent.getId(), null, 20);
+        CustomerReservationRow last = first.getContent().get(first.getNumberOfElements() - 1);
+        Slice<CustomerReservationRow> second = reservationService.getCustomerReservations(
+                frequent.getId(), new CreatedAtPosition(last.createdAt(), last.id()), 20);
+
+        // Assert
+        assertThat(first.getContent()).hasSize(20);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(HISTORY_SIZE - 20);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(Stream.concat(first.getContent().stream(), second.getContent().stream())
+                .map(CustomerReservationRow::id)
+                .distinct())
+                .hasSize(HISTORY_SIZE);
+        assertThat(second.getContent()).allMatch(row -> !row.createdAt().isAfter(last.createdAt()));
+        assertThat(first.getContent().get(0).groupName()).isEqualTo("Group B");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.rental.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the PostgreSQL migrations on H2 in PostgreSQL mode and checks that the hot lookups
+ * are planned on an index instead of a table scan.
+ */
+public class SchemaIndexTest {
+
+    private static final String URL =
+            "jdbc:h2:mem:schema_index;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static Connection connection;
+
+    @BeforeAll
+    public static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/postgresql")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+    }
+
+    @AfterAll
+    public static void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testPersonByEmailUsesIndex() throws SQLException {
+        assertThat(explain("select * from tb_persons where email = 'john@example.com'"))
+                .containsIgnoringCase("ux_persons_email")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testVehicleByLicensePlateUsesIndex() throws SQLException {
+        assertThat(explain("select * from vehicle where license_plate = 'ABC1234'"))
+                .containsIgnoringCase("ux_vehicle_license_plate")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testGroupByNameUsesIndex() throws SQLException {
+        assertThat(explain("select * from vehicle_groups where name = 'Group A'"))
+                .containsIgnoringCase("ux_vehicle_groups_name")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testGroupReservationsInPeriodUseIndex() throws SQLException {
+        assertThat(explain("select id from tb_reservations"
+                + " where group_id = '00000000-0000-0000-0000-000000000001'"
+                + " and pickup_date_time <= timestamp '2024-07-10 10:00:00'"
+                + " and return_date_time >= timestamp '2024-07-05 10:00:00'"))
+                .containsIgnoringCase("ix_reservations_group_period")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testCustomerReservationHistoryUsesIndex() throws SQLException {
+        assertThat(explain("select id from tb_reservations"
+                + " where customer_id = '00000000-0000-0000-0000-000000000001'"
+                + " and (crated_at < timestamp '2024-07-05 10:00:00'"
+                + " or (crated_at = timestamp '2024-07-05 10:00:00' and id < '00000000-0000-0000-0000-000000000002'))"
+                + " order by crated_at desc, id desc"))
+                .containsIgnoringCase("ix_reservations_customer_history")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testOutboxPollingUsesIndex() throws SQLException {
+        assertThat(explain("select * from tb_outbox_messages"
+                + " where created_at > timestamp '2024-07-05 10:00:00' order by created_at"))
+                .containsIgnoringCase("ix_outbox_messages_created")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("explain " + sql)) {
+            StringBuilder text = new StringBuilder();
+            while (plan.next()) {
+                text.append(plan.getString(1)).append('\n');
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.rental.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rental.repository.GroupRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Builds the schema with the PostgreSQL migrations on H2 in PostgreSQL mode and starts
+ * Hibernate with the PostgreSQL dialect and {@code ddl-auto=validate}, so the context only
+ * loads when the scripts match the entities.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema_validation;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration/postgresql",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class SchemaValidationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Test
+    public void testMigratedSchemaMatchesTheEntities() {
+        // Act
+        var applied = flyway.info().applied();
+
+        // Assert
+        assertThat(applied).isNotEmpty();
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(groupRepository.count()).isZero();
+    }
+}
@@ -8,23 +8,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.rental.controller.dto.accessory.AccessoryDto;
 import com.rental.entity.Accessory;
 import com.rental.repository.AccessoryRepository;
 import com.rental.service.AccessoryService;
 import com.rental.service.exception.AccessoryNotFoundException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * Unit Tests to Accessory Service Class
@@ -65,17 +66,30 @@ public class AccessoryServiceTest {
     });
   }
 
+  @Test
+  public void testAccessoryDtoRetrievalById() throws AccessoryNotFoundException {
+    // Arrange
+    when(accessoryRepository.findDtoById(eq(ACCESSORY_01.getId())))
+        .thenReturn(Optional.of(AccessoryDto.fromEntity(ACCESSORY_01)));
+
+    // Act
+    AccessoryDto accessory = accessoryService.getAccessoryDtoById(ACCESSORY_01.getId());
+
+    // Assert
+    assertThat(accessory).isEqualTo(AccessoryDto.fromEntity(ACCESSORY_01));
+  }
+
   @Test
   public void testGetAllAccessories() {
     // Arrange
-    List<Accessory> accessories = Arrays.asList(ACCESSORY_01, ACCESSORY_02);
-    Page<Accessory> page = new PageImpl<>(accessories);
+    List<AccessoryDto> accessories = Stream.of(ACCESSORY_01, ACCESSORY_02).map(AccessoryDto::fromEntity).toList();
+    Slice<AccessoryDto> page = new SliceImpl<>(accessories);
     Pageable pageable = PageRequest.of(0, 2);
 
     // Act
-    when(accessoryRepository.findAll(pageable)).thenReturn(page);
-    List<Accessory> getAllAccessories = accessoryService.getAllAccessories(0, 2);
-    verify(accessoryRepository).findAll(pageable);
+    when(accessoryRepository.findDtoPage(pageable)).thenReturn(page);
+    List<AccessoryDto> getAllAccessories = accessoryService.getAllAccessories(0, 2);
+    verify(accessoryRepository).findDtoPage(pageable);
 
     // Assert
     assertEquals(2, getAllAccessories.size());
@@ -85,13 +99,13 @@ public class AccessoryServiceTest {
   @Test
   public void testGetAllAccessoriesEmpty() {
     // Arrange
-    Page<Accessory> page = new PageImpl<>(Arrays.asList());
+    Slice<AccessoryDto> page = new SliceImpl<>(List.of());
     Pageable pageable = PageRequest.of(0, 2);
 
     // Act
-    when(accessoryRepository.findAll(pageable)).thenReturn(page);
-    List<Accessory> getAllAccessories = accessoryService.getAllAccessories(0, 2);
-    verify(accessoryRepository).findAll(pageable);
+    when(accessoryRepository.findDtoPage(pageable)).thenReturn(page);
+    List<AccessoryDto> getAllAccessories = accessoryService.getAllAccessories(0, 2);
+    verify(accessoryRepository).findDtoPage(pageable);
 
     // Assert
     assertThat(getAllAccessories).isEmpty();
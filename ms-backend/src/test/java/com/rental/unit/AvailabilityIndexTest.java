@@ -0,0 +1,187 @@
+package com.rental.unit;
+
+import static com.rental.mock.GroupMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.rental.enums.ReservationStatus;
+import com.rental.repository.ReservationRepository;
+import com.rental.repository.projection.ReservationWindow;
+import com.rental.service.reservation.AvailabilityIndex;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit Tests to Availability Index Class
+ * */
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityIndexTest {
+
+  private static final LocalDateTime PICKUP = LocalDateTime.now().plusDays(10).withHour(10);
+  private static final LocalDateTime RETURN = PICKUP.plusDays(3);
+
+  @Mock
+  ReservationRepository repository;
+
+  AvailabilityIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new AvailabilityIndex(repository, 10);
+  }
+
+  @Test
+  public void testUnknownGroupIsFullyAvailable() {
+    // Act
+    int available = index.available(UUID.randomUUID(), 3, PICKUP, RETURN);
+
+    // Assert
+    assertThat(available).isEqualTo(3);
+  }
+
+  @Test
+  public void testReserveUntilGroupIsFull() {
+    // Arrange
+    UUID groupId = GROUP_01.getId();
+
+    // Act
+    boolean first = index.tryReserve(groupId, 2, PICKUP, RETURN);
+    boolean second = index.tryReserve(groupId, 2, PICKUP.plusDays(1), RETURN.plusDays(1));
+    boolean third = index.tryReserve(groupId, 2, RETURN, RETURN.plusDays(2));
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(third).isFalse();
+    assertThat(index.available(groupId, 2, PICKUP, RETURN)).isZero();
+    assertThat(index.available(groupId, 2, RETURN.plusDays(2), RETURN.plusDays(5))).isEqualTo(2);
+  }
+
+  @Test
+  public void testReleaseFreesVehicle() {
+    // Arrange
+    UUID groupId = GROUP_02.getId();
+    index.tryReserve(groupId, 1, PICKUP, RETURN);
+
+    // Act
+    index.releaseAfterCommit(groupId, PICKUP, RETURN);
+
+    // Assert
+    assertThat(index.available(groupId, 1, PICKUP, RETURN)).isEqualTo(1);
+  }
+
+  @Test
+  public void testReservationsBeforeExistingRangeAreTracked() {
+    // Arrange
+    UUID groupId = UUID.randomUUID();
+    index.tryReserve(groupId, 1, PICKUP, RETURN);
+
+    // Act
+    boolean earlier = index.tryReserve(groupId, 1, PICKUP.minusDays(8), PICKUP.minusDays(6));
+
+    // Assert
+    assertThat(earlier).isTrue();
+    assertThat(index.available(groupId, 1, PICKUP.minusDays(7), PICKUP.minusDays(7))).isZero();
+    assertThat(index.available(groupId, 1, PICKUP, RETURN)).isZero();
+  }
+
+  @Test
+  public void testRebuildFromRepository() {
+    // Arrange
+    UUID groupId = GROUP_01.getId();
+    ReservationWindow window = new ReservationWindow() {
+      @Override
+      public UUID getGroupId() {
+        return groupId;
+      }
+
+      @Override
+      public LocalDateTime getPickupDateTime() {
+        return PICKUP;
+      }
+
+      @Override
+      public LocalDateTime getReturnDateTime() {
+        return RETURN;
+      }
+    };
+    when(repository.findWindowsReturningAfter(any(LocalDateTime.class), eq(ReservationStatus.CANCELLED)))
+        .thenReturn(List.of(window, window));
+
+    // Act
+    index.rebuild();
+
+    // Assert
+    assertThat(index.available(groupId, 3, PICKUP, RETURN)).isEqualTo(1);
+  }
+
+  @Test
+  public void testCancellingReturnedReservationKeepsOtherBookings() {
+    // Arrange
+    UUID groupId = GROUP_02.getId();
+    LocalDateTime today = LocalDateTime.now().withHour(10);
+    LocalDateTime ongoingPickup = today.minusDays(2);
+    LocalDateTime ongoingReturn = today.plusDays(3);
+    when(repository.findWindowsReturningAfter(any(LocalDateTime.class), eq(ReservationStatus.CANCELLED)))
+        .thenReturn(List.of(window(groupId, ongoingPickup, ongoingReturn)));
+    index.rebuild();
+
+    // Act
+    index.releaseAfterCommit(groupId, today.minusDays(5), today.minusDays(1));
+
+    // Assert
+    assertThat(index.available(groupId, 2, ongoingPickup, ongoingReturn)).isEqualTo(1);
+    assertThat(index.tryReserve(groupId, 1, today, ongoingReturn)).isFalse();
+
+    index.releaseAfterCommit(groupId, ongoingPickup, ongoingReturn);
+    assertThat(index.available(groupId, 1, ongoingPickup, ongoingReturn)).isEqualTo(1);
+    assertThat(index.tryReserve(groupId, 1, today, ongoingReturn)).isTrue();
+  }
+
+  @Test
+  public void testCapacityFallsBackToDefault() {
+    // Act + Assert
+    assertThat(index.capacityOf(GROUP_01)).isEqualTo(10);
+  }
+
+  @Test
+  public void testRebuildWithoutReservations() {
+    // Arrange
+    when(repository.findWindowsReturningAfter(any(LocalDateTime.class), eq(ReservationStatus.CANCELLED)))
+        .thenReturn(Collections.emptyList());
+
+    // Act
+    index.rebuild();
+
+    // Assert
+    assertThat(index.available(GROUP_01.getId(), 4, PICKUP, RETURN)).isEqualTo(4);
+  }
+
+  private static ReservationWindow window(UUID groupId, LocalDateTime pickup, LocalDateTime returnDate) {
+    return new ReservationWindow() {
+      @Override
+      public UUID getGroupId() {
+        return groupId;
+      }
+
+      @Override
+      public LocalDateTime getPickupDateTime() {
+        return pickup;
+      }
+
+      @Override
+      public LocalDateTime getReturnDateTime() {
+        return returnDate;
+      }
+    };
+  }
+}
@@ -0,0 +1,80 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.rental.config.CacheConfig;
+import com.rental.controller.dto.cache.CacheStatsResponse;
+import com.rental.service.CacheStatsService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Unit Tests to Cache Stats Service Class
+ * */
+public class CacheStatsServiceTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(CacheConfig.class, CacheStatsService.class)
+      .withPropertyValues(
+          "cache.default-spec=maximumSize=50,expireAfterWrite=1m",
+          "cache.specs.vehicleById=maximumSize=1,expireAfterWrite=5m"
+      );
+
+  @Test
+  public void testConfiguredCacheIsBounded() {
+    contextRunner.run(context -> {
+      // Arrange
+      CaffeineCache cache = (CaffeineCache) context.getBean(CacheManager.class).getCache("vehicleById");
+      Cache<Object, Object> nativeCache = cache.getNativeCache();
+
+      // Act
+      cache.put("a", 1);
+      cache.put("b", 2);
+      cache.put("c", 3);
+      nativeCache.cleanUp();
+
+      // Assert
+      assertThat(nativeCache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(1);
+      assertThat(nativeCache.estimatedSize()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  public void testUnlistedCacheUsesDefaultSpec() {
+    contextRunner.run(context -> {
+      // Act
+      CaffeineCache cache = (CaffeineCache) context.getBean(CacheManager.class).getCache("allGroups");
+
+      // Assert
+      assertThat(cache.getNativeCache().policy().eviction().orElseThrow().getMaximum()).isEqualTo(50);
+    });
+  }
+
+  @Test
+  public void testStatsCountHitsAndMisses() {
+    contextRunner.run(context -> {
+      // Arrange
+      CaffeineCache cache = (CaffeineCache) context.getBean(CacheManager.class).getCache("vehicleById");
+      cache.get("id");
+      cache.put("id", "vehicle");
+      cache.get("id");
+
+      // Act
+      List<CacheStatsResponse> stats = context.getBean(CacheStatsService.class).getStats();
+
+      // Assert
+      CacheStatsResponse vehicleById = stats.stream()
+          .filter(response -> response.name().equals("vehicleById"))
+          .findFirst()
+          .orElseThrow();
+      assertThat(vehicleById.hitCount()).isEqualTo(1);
+      assertThat(vehicleById.missCount()).isEqualTo(1);
+      assertThat(vehicleById.hitRate()).isEqualTo(0.5);
+      assertThat(vehicleById.estimatedSize()).isEqualTo(1);
+    });
+  }
+}
@@ -0,0 +1,72 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rental.service.CryptoService;
+import java.util.Base64;
+import org.jasypt.util.text.StrongTextEncryptor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests to Crypto Service Class
+ * */
+public class CryptoServiceTest {
+
+  private static final String DOCUMENT = "12345678900";
+
+  @Test
+  public void testEncryptRoundTrip() {
+    // Act
+    String encrypted = CryptoService.encrypt(DOCUMENT);
+
+    // Assert
+    assertThat(encrypted).startsWith("v2:");
+    assertThat(CryptoService.isCurrentFormat(encrypted)).isTrue();
+    assertThat(CryptoService.decrypt(encrypted)).isEqualTo(DOCUMENT);
+  }
+
+  @Test
+  public void testEncryptUsesFreshIv() {
+    // Act
+    String first = CryptoService.encrypt(DOCUMENT);
+    String second = CryptoService.encrypt(DOCUMENT);
+
+    // Assert
+    assertThat(first).isNotEqualTo(second);
+  }
+
+  @Test
+  public void testDecryptLegacyValue() {
+    // Arrange
+    StrongTextEncryptor legacyEncryptor = new StrongTextEncryptor();
+    legacyEncryptor.setPassword("mySecretKeyToEncrypt");
+    String legacy = legacyEncryptor.encrypt(DOCUMENT);
+
+    // Act
+    String decrypted = CryptoService.decrypt(legacy);
+
+    // Assert
+    assertThat(CryptoService.isCurrentFormat(legacy)).isFalse();
+    assertThat(decrypted).isEqualTo(DOCUMENT);
+  }
+
+  @Test
+  public void testDecryptRejectsTamperedValue() {
+    // Arrange
+    byte[] payload = Base64.getDecoder().decode(CryptoService.encrypt(DOCUMENT).substring(3));
+    payload[payload.length - 1] ^= 1;
+    String tampered = "v2:" + Base64.getEncoder().encodeToString(payload);
+
+    // Act + Assert
+    assertThatThrownBy(() -> CryptoService.decrypt(tampered))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void testNullPassesThrough() {
+    // Act + Assert
+    assertThat(CryptoService.encrypt(null)).isNull();
+    assertThat(CryptoService.decrypt(null)).isNull();
+  }
+}
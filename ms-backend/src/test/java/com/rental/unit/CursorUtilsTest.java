@@ -0,0 +1,80 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.rental.advice.GlobalControllerAdvice;
+import com.rental.service.exception.InvalidCursorException;
+import com.rental.utils.CursorUtils;
+import com.rental.utils.CursorUtils.CreatedAtPosition;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Unit Tests to Cursor Utils Class
+ * */
+public class CursorUtilsTest {
+
+  @Test
+  public void testIdCursorRoundTrips() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+
+    // Act
+    String cursor = CursorUtils.encode(id);
+
+    // Assert
+    assertThat(cursor).doesNotContain("=", "+", "/");
+    assertThat(CursorUtils.decode(cursor)).isEqualTo(id);
+  }
+
+  @Test
+  public void testMissingCursorStartsFromTheFirstPage() {
+    // Act & Assert
+    assertThat(CursorUtils.decode(null)).isEqualTo(CursorUtils.START);
+    assertThat(CursorUtils.decode(" ")).isEqualTo(CursorUtils.START);
+    assertThat(CursorUtils.decodeCreatedAt(null)).isNull();
+  }
+
+  @Test
+  public void testCreatedAtCursorRoundTrips() {
+    // Arrange
+    CreatedAtPosition position = new CreatedAtPosition(
+        LocalDateTime.of(2024, 7, 1, 10, 30, 15, 123_456_789), UUID.randomUUID());
+
+    // Act
+    String cursor = CursorUtils.encode(position);
+
+    // Assert
+    assertThat(CursorUtils.decodeCreatedAt(cursor)).isEqualTo(position);
+  }
+
+  @Test
+  public void testMalformedCursorsAreRejected() {
+    // Arrange
+    String idCursor = CursorUtils.encode(UUID.randomUUID());
+
+    // Act & Assert
+    assertThrows(InvalidCursorException.class, () -> CursorUtils.decode("not a cursor!"));
+    assertThrows(InvalidCursorException.class, () -> CursorUtils.decode(idCursor.substring(1)));
+    assertThrows(InvalidCursorException.class, () -> CursorUtils.decodeCreatedAt(idCursor));
+  }
+
+  @Test
+  public void testInvalidCursorAnswersBadRequest() {
+    // Arrange
+    GlobalControllerAdvice advice = new GlobalControllerAdvice();
+
+    // Act
+    ResponseEntity<Map<String, Object>> response =
+        advice.handleInvalidCursorException(new InvalidCursorException());
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).containsEntry("statusCode", 400);
+  }
+}
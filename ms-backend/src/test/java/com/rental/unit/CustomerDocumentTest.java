@@ -0,0 +1,105 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rental.entity.Customer;
+import com.rental.service.CryptoService;
+import org.jasypt.util.text.StrongTextEncryptor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests to Customer document encryption
+ * */
+public class CustomerDocumentTest {
+
+  private static final String DOCUMENT = "12345678900";
+
+  @Test
+  public void testDocumentIsDecryptedOnFirstAccess() {
+    // Arrange
+    Customer customer = new Customer();
+    customer.setEncryptedDocument(CryptoService.encrypt(DOCUMENT));
+
+    // Act
+    String first = customer.getRawDocument();
+    String second = customer.getRawDocument();
+
+    // Assert
+    assertThat(first).isEqualTo(DOCUMENT);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void testUnreadDocumentKeepsCiphertextOnFlush() {
+    // Arrange
+    String ciphertext = CryptoService.encrypt(DOCUMENT);
+    Customer customer = new Customer();
+    customer.setEncryptedDocument(ciphertext);
+
+    // Act
+    customer.encryptFields();
+
+    // Assert
+    assertThat(customer.getEncryptedDocument()).isEqualTo(ciphertext);
+  }
+
+  @Test
+  public void testNewDocumentIsEncryptedOnPersist() {
+    // Arrange
+    Customer customer = Customer.builder().rawDocument(DOCUMENT).build();
+
+    // Act
+    customer.encryptFields();
+
+    // Assert
+    assertThat(CryptoService.isCurrentFormat(customer.getEncryptedDocument())).isTrue();
+    assertThat(CryptoService.decrypt(customer.getEncryptedDocument())).isEqualTo(DOCUMENT);
+  }
+
+  @Test
+  public void testUnchangedDocumentKeepsCiphertext() {
+    // Arrange
+    String ciphertext = CryptoService.encrypt(DOCUMENT);
+    Customer customer = new Customer();
+    customer.setEncryptedDocument(ciphertext);
+
+    // Act
+    customer.setRawDocument(DOCUMENT);
+    customer.encryptFields();
+
+    // Assert
+    assertThat(customer.getEncryptedDocument()).isEqualTo(ciphertext);
+  }
+
+  @Test
+  public void testChangedDocumentIsReEncrypted() {
+    // Arrange
+    String ciphertext = CryptoService.encrypt(DOCUMENT);
+    Customer customer = new Customer();
+    customer.setEncryptedDocument(ciphertext);
+
+    // Act
+    customer.setRawDocument("98765432100");
+
+    // Assert
+    assertThat(customer.getEncryptedDocument()).isNotEqualTo(ciphertext);
+    assertThat(CryptoService.decrypt(customer.getEncryptedDocument())).isEqualTo("98765432100");
+  }
+
+  @Test
+  public void testUnchangedLegacyDocumentIsUpgraded() {
+    // Arrange
+    StrongTextEncryptor legacyEncryptor = new StrongTextEncryptor();
+    legacyEncryptor.setPassword("mySecretKeyToEncrypt");
+    Customer customer = new Customer();
+    customer.setEncryptedDocument(legacyEncryptor.encrypt(DOCUMENT));
+
+    // Act
+    customer.setRawDocument(DOCUMENT);
+    customer.encryptFields();
+
+    // Assert
+    assertThat(CryptoService.isCurrentFormat(customer.getEncryptedDocument())).isTrue();
+    assertThat(CryptoService.decrypt(customer.getEncryptedDocument())).isEqualTo(DOCUMENT);
+  }
+}
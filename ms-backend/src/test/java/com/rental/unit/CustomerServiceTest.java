@@ -7,23 +7,26 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.rental.controller.dto.customer.CustomerResponse;
 import com.rental.entity.Customer;
 import com.rental.repository.CustomerRepository;
-import com.rental.service.customer.ICustomerService;
+import com.rental.service.PersonService;
+import com.rental.service.customer.CustomerServiceImpl;
 import com.rental.service.exception.CustomerNotFoundException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Unit Tests for CustomerService Class
@@ -34,11 +37,17 @@ import org.springframework.data.domain.Pageable;
 public class CustomerServiceTest {
 
     @InjectMocks
-    ICustomerService customerService;
+    CustomerServiceImpl customerService;
 
     @Mock
     CustomerRepository customerRepository;
 
+    @Mock
+    PersonService personService;
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
     @Test
     public void testCustomerRetrievalById() throws CustomerNotFoundException {
         // Arrange
@@ -64,33 +73,63 @@ public class CustomerServiceTest {
         });
     }
 
+    @Test
+    public void testCustomerResponseRetrievalById() throws CustomerNotFoundException {
+        // Arrange
+        CustomerResponse response = CustomerResponse.fromEntity(CUSTOMER_01);
+        when(customerRepository.findDtoById(CUSTOMER_01.getId())).thenReturn(Optional.of(response));
+
+        // Act
+        CustomerResponse getCustomer = customerService.getResponseById(CUSTOMER_01.getId());
+
+        // Assert
+        assertThat(getCustomer.id()).isEqualTo(CUSTOMER_01.getId());
+        assertThat(getCustomer.fullName()).isEqualTo(CUSTOMER_01.getFullName());
+        assertThat(getCustomer.email()).isEqualTo(CUSTOMER_01.getEmail());
+        assertThat(getCustomer.phoneNumber()).isEqualTo(CUSTOMER_01.getPhoneNumber());
+        verify(customerRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testCustomerResponseRetrievalByIdNotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(customerRepository.findDtoById(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(CustomerNotFoundException.class, () -> customerService.getResponseById(id));
+    }
+
     @Test
     public void testGetAllCustomers() {
         // Arrange
-        List<Customer> customers = Arrays.asList(CUSTOMER_01, CUSTOMER_02);
-        Page<Customer> page = new PageImpl<>(customers);
+        List<CustomerResponse> customers = Stream.of(CUSTOMER_01, CUSTOMER_02).map(CustomerResponse::fromEntity).toList();
+        Slice<CustomerResponse> page = new SliceImpl<>(customers);
         Pageable pageable = PageRequest.of(0, 2);
 
         // Act
-        when(customerRepository.findAll(pageable)).thenReturn(page);
-        List<Customer> getAllCustomers = customerService.getAll(0, 2);
-        verify(customerRepository).findAll(pageable);
+        when(customerRepository.findDtoPage(pageable)).thenReturn(page);
+        List<CustomerResponse> getAllCustomers = customerService.getAll(0, 2);
+        verify(customerRepository).findDtoPage(pageable);
 
         // Assert
         assertEquals(2, getAllCustomers.size());
         assertThat(getAllCustomers).isEqualTo(customers);
+        assertThat(getAllCustomers.get(0).id()).isEqualTo(CUSTOMER_01.getId());
+        assertThat(getAllCustomers.get(0).fullName()).isEqualTo(CUSTOMER_01.getFullName());
+        assertThat(getAllCustomers.get(1).email()).isEqualTo(CUSTOMER_02.getEmail());
     }
 
     @Test
     public void testGetAllCustomersEmpty() {
         // Arrange
-        Page<Customer> page = new PageImpl<>(List.of());
+        Slice<CustomerResponse> page = new SliceImpl<>(List.of());
         Pageable pageable = PageRequest.of(0, 2);
 
         // Act
-        when(customerRepository.findAll(pageable)).thenReturn(page);
-        List<Customer> getAllCustomers = customerService.getAll(0, 2);
-        verify(customerRepository).findAll(pageable);
+        when(customerRepository.findDtoPage(pageable)).thenReturn(page);
+        List<CustomerResponse> getAllCustomers = customerService.getAll(0, 2);
+        verify(customerRepository).findDtoPage(pageable);
 
         // Assert
         assertThat(getAllCustomers).isEmpty();
@@ -99,6 +138,7 @@ public class CustomerServiceTest {
     @Test
     public void testCreateCustomer() {
         // Arrange
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
         when(customerRepository.save(CUSTOMER_CREATION))
                 .thenReturn(CUSTOMER_CREATION);
 
@@ -113,6 +153,7 @@ public class CustomerServiceTest {
     @Test
     public void testCreateCustomerFail() {
         // Arrange
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
         when(customerRepository.save(CUSTOMER_CREATION))
                 .thenThrow(new RuntimeException("Unexpected errors"));
 
@@ -164,7 +205,7 @@ public class CustomerServiceTest {
 
         // Assert
         verify(customerRepository, times(1))
-                .save(any(Customer.class));
+                .delete(CUSTOMER_01);
     }
 
     @Test
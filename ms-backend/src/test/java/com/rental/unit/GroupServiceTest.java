@@ -8,23 +8,24 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.rental.controller.dto.group.GroupDto;
 import com.rental.entity.Group;
 import com.rental.repository.GroupRepository;
 import com.rental.service.GroupService;
 import com.rental.service.exception.GroupNotFoundException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * Unit Tests to Group Service Class
@@ -65,17 +66,27 @@ public class GroupServiceTest {
     });
   }
 
+  @Test
+  public void testGroupDtoRetrievalByIdNotFound() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    when(repository.findDtoById(eq(id))).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(GroupNotFoundException.class, () -> service.getGroupDtoById(id));
+  }
+
   @Test
   public void testRetrievalAllGroups() {
     // Arrange
-    List<Group> groups = Arrays.asList(GROUP_01, GROUP_02);
-    Page<Group> page = new PageImpl<>(groups);
+    List<GroupDto> groups = Stream.of(GROUP_01, GROUP_02).map(GroupDto::fromEntity).toList();
+    Slice<GroupDto> page = new SliceImpl<>(groups);
     Pageable pageable = PageRequest.of(0, 2);
 
     // Act
-    when(repository.findAll(pageable)).thenReturn(page);
-    List<Group> getAllGroups = service.getAllGroups(0, 2);
-    verify(repository).findAll(pageable);
+    when(repository.findDtoPage(pageable)).thenReturn(page);
+    List<GroupDto> getAllGroups = service.getAllGroups(0, 2);
+    verify(repository).findDtoPage(pageable);
 
     // Assert
     assertEquals(2, getAllGroups.size());
@@ -85,13 +96,13 @@ public class GroupServiceTest {
   @Test
   public void testRetrievalAllGroupsEmpty() {
     // Arrange
-    Page<Group> page = new PageImpl<>(Arrays.asList());
+    Slice<GroupDto> page = new SliceImpl<>(List.of());
     Pageable pageable = PageRequest.of(0, 2);
 
     // Act
-    when(repository.findAll(pageable)).thenReturn(page);
-    List<Group> getAllGroups = service.getAllGroups(0, 2);
-    verify(repository).findAll(pageable);
+    when(repository.findDtoPage(pageable)).thenReturn(page);
+    List<GroupDto> getAllGroups = service.getAllGroups(0, 2);
+    verify(repository).findDtoPage(pageable);
 
     // Assert
     assertThat(getAllGroups).isEmpty();
@@ -110,6 +121,20 @@ public class GroupServiceTest {
     assertThat(newGroup).isEqualTo(GROUP_CREATION);
   }
 
+  @Test
+  public void testCreateGroups() {
+    // Arrange
+    List<Group> groups = List.of(GROUP_CREATION, GROUP_02);
+    when(repository.saveAll(groups)).thenReturn(groups);
+
+    // Act
+    List<Group> created = service.createGroups(groups);
+
+    // Assert
+    verify(repository).saveAll(groups);
+    assertThat(created).containsExactly(GROUP_CREATION, GROUP_02);
+  }
+
   @Test
   public void testCreateGroupFail() {
     // Arrange
@@ -0,0 +1,96 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rental.entity.Person;
+import com.rental.enums.Role;
+import com.rental.security.JwtFilter;
+import com.rental.security.PersonPrincipal;
+import com.rental.security.PrincipalMode;
+import com.rental.service.PersonService;
+import com.rental.service.TokenService;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Unit Tests to Jwt Filter Class
+ * */
+@ExtendWith(MockitoExtension.class)
+public class JwtFilterTest {
+
+  private static final Person PERSON = new Person(
+      UUID.randomUUID(), "Admin", "admin@example.com", "password", Role.ADMIN);
+
+  TokenService tokenService = new TokenService("test-secret", 100);
+
+  @Mock
+  PersonService personService;
+
+  @AfterEach
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  public void testClaimsModeSkipsPersonLookup() throws Exception {
+    // Arrange
+    JwtFilter filter = new JwtFilter(tokenService, personService, PrincipalMode.CLAIMS);
+
+    // Act
+    filter.doFilter(request(tokenService.generateToken(PERSON)), new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertThat(authentication.getPrincipal())
+        .isEqualTo(new PersonPrincipal(PERSON.getId(), PERSON.getEmail(), Role.ADMIN));
+    assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ADMIN");
+    verifyNoInteractions(personService);
+  }
+
+  @Test
+  public void testClaimsModeFallsBackForTokensWithoutClaims() throws Exception {
+    // Arrange
+    JwtFilter filter = new JwtFilter(tokenService, personService, PrincipalMode.CLAIMS);
+    PersonPrincipal principal = PersonPrincipal.fromEntity(PERSON);
+    when(personService.loadPrincipal(PERSON.getEmail())).thenReturn(principal);
+
+    // Act
+    filter.doFilter(request(tokenService.generateToken(PERSON.getEmail())), new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(principal);
+  }
+
+  @Test
+  public void testCacheModeLoadsPrincipalByEmail() throws Exception {
+    // Arrange
+    JwtFilter filter = new JwtFilter(tokenService, personService, PrincipalMode.CACHE);
+    PersonPrincipal principal = PersonPrincipal.fromEntity(PERSON);
+    when(personService.loadPrincipal(PERSON.getEmail())).thenReturn(principal);
+
+    // Act
+    filter.doFilter(request(tokenService.generateToken(PERSON)), new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    verify(personService).loadPrincipal(PERSON.getEmail());
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(principal);
+  }
+
+  private static MockHttpServletRequest request(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    return request;
+  }
+}
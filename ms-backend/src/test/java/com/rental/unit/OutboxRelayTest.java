@@ -0,0 +1,114 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rental.entity.OutboxMessage;
+import com.rental.producer.OutboxRelay;
+import com.rental.repository.OutboxMessageRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Unit Tests to Outbox Relay Class
+ * */
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+  @Mock
+  RabbitTemplate rabbitTemplate;
+
+  @Mock
+  RabbitOperations operations;
+
+  @Mock
+  OutboxMessageRepository repository;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  OutboxRelay relay;
+
+  @BeforeEach
+  public void setUp() {
+    relay = new OutboxRelay(rabbitTemplate, repository, transactionManager);
+    ReflectionTestUtils.setField(relay, "batchSize", 2);
+    ReflectionTestUtils.setField(relay, "confirmTimeout", 1000L);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+  }
+
+  @Test
+  public void testConfirmedBatchIsDeleted() {
+    // Arrange
+    List<OutboxMessage> batch = List.of(message(), message());
+    when(repository.lockNextBatch(any(Pageable.class))).thenReturn(batch, List.of());
+    when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+        invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+
+    // Act
+    relay.relay();
+
+    // Assert
+    ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+    verify(operations, times(2)).send(eq(""), eq("email-queue"), sent.capture());
+    verify(operations).waitForConfirmsOrDie(1000L);
+    verify(repository).deleteAllInBatch(batch);
+    assertThat(sent.getAllValues().get(0).getMessageProperties().getMessageId())
+        .isEqualTo(batch.get(0).getId().toString());
+  }
+
+  @Test
+  public void testUnconfirmedBatchIsKept() {
+    // Arrange
+    when(repository.lockNextBatch(any(Pageable.class))).thenReturn(List.of(message()));
+    when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+        invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    doThrow(new AmqpTimeoutException("no confirm")).when(operations).waitForConfirmsOrDie(anyLong());
+
+    // Act & Assert
+    assertThrows(AmqpTimeoutException.class, () -> relay.publishBatch());
+    verify(repository, never()).deleteAllInBatch(any());
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  public void testEmptyOutboxSkipsBroker() {
+    // Arrange
+    when(repository.lockNextBatch(any(Pageable.class))).thenReturn(List.of());
+
+    // Act
+    int published = relay.publishBatch();
+
+    // Assert
+    assertThat(published).isZero();
+    verify(rabbitTemplate, never()).invoke(any());
+  }
+
+  private static OutboxMessage message() {
+    OutboxMessage message = new OutboxMessage("email-queue", "{\"emailTo\":\"user@example.com\"}");
+    message.setId(UUID.randomUUID());
+    return message;
+  }
+}
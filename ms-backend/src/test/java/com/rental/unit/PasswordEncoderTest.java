@@ -0,0 +1,105 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.rental.security.BoundedPasswordEncoder;
+import com.rental.security.PasswordHashingProperties;
+import com.rental.security.SecurityConfig;
+import com.rental.service.exception.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit Tests to the password encoder configuration
+ * */
+@ExtendWith(MockitoExtension.class)
+public class PasswordEncoderTest {
+
+  @Mock
+  PasswordEncoder delegate;
+
+  @Test
+  public void testLegacyBcryptHashMatchesAndIsUpgraded() {
+    // Arrange
+    PasswordEncoder encoder = passwordEncoder("bcrypt", 4);
+    String legacy = new BCryptPasswordEncoder(4).encode("Str0ng!Password");
+
+    // Act
+    boolean matches = encoder.matches("Str0ng!Password", legacy);
+    boolean upgrade = encoder.upgradeEncoding(legacy);
+
+    // Assert
+    assertThat(matches).isTrue();
+    assertThat(upgrade).isTrue();
+  }
+
+  @Test
+  public void testNewHashesUseConfiguredAlgorithm() {
+    // Arrange
+    PasswordEncoder encoder = passwordEncoder("pbkdf2", 4);
+
+    // Act
+    String hash = encoder.encode("Str0ng!Password");
+
+    // Assert
+    assertThat(hash).startsWith("{pbkdf2}");
+    assertThat(encoder.matches("Str0ng!Password", hash)).isTrue();
+    assertThat(encoder.upgradeEncoding(hash)).isFalse();
+  }
+
+  @Test
+  public void testLowerBcryptCostIsUpgraded() {
+    // Arrange
+    String cheap = passwordEncoder("bcrypt", 4).encode("Str0ng!Password");
+
+    // Act
+    boolean upgrade = passwordEncoder("bcrypt", 5).upgradeEncoding(cheap);
+
+    // Assert
+    assertThat(upgrade).isTrue();
+  }
+
+  @Test
+  public void testHashingBeyondLimitIsRejected() throws Exception {
+    // Arrange
+    CountDownLatch hashing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(delegate.matches(any(), anyString())).thenAnswer(invocation -> {
+      hashing.countDown();
+      release.await();
+      return true;
+    });
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, Duration.ofMillis(50));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      executor.submit(() -> encoder.matches("password", "hash"));
+      hashing.await();
+
+      // Act + Assert
+      assertThatThrownBy(() -> encoder.matches("password", "hash"))
+          .isInstanceOf(PasswordHashingBusyException.class);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  private static PasswordEncoder passwordEncoder(String algorithm, int bcryptCost) {
+    PasswordHashingProperties properties =
+        new PasswordHashingProperties(algorithm, bcryptCost, 2, Duration.ofSeconds(1));
+    return new SecurityConfig(null).passwordEncoder(properties);
+  }
+}
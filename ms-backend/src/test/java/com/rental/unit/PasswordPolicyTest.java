@@ -0,0 +1,57 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rental.service.validations.PasswordPolicy;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests to Password Policy Class
+ * */
+public class PasswordPolicyTest {
+
+  private final PasswordPolicy passwordPolicy = new PasswordPolicy();
+
+  @Test
+  public void testStrongPasswordHasNoErrors() {
+    // Act
+    List<String> errors = passwordPolicy.validate("Str0ng!Password");
+
+    // Assert
+    assertThat(errors).isEmpty();
+    assertThat(errors).isSameAs(List.of());
+  }
+
+  @Test
+  public void testWeakPasswordListsFailedRulesInOrder() {
+    // Act
+    List<String> errors = passwordPolicy.validate("weak");
+
+    // Assert
+    assertThat(errors).containsExactly(
+        "Password must have at least 8 characters",
+        "Password must have at least one numeric character",
+        "Password must have at least one special character",
+        "Password must have at least one uppercase character"
+    );
+  }
+
+  @Test
+  public void testNonAsciiCharactersSatisfyNoRule() {
+    // Act
+    List<String> errors = passwordPolicy.validate("ÁÉÍÓÚáéíóú");
+
+    // Assert
+    assertThat(errors).hasSize(4).doesNotContain("Password must have at least 8 characters");
+  }
+
+  @Test
+  public void testNullPasswordFailsEveryRule() {
+    // Act
+    List<String> errors = passwordPolicy.validate(null);
+
+    // Assert
+    assertThat(errors).hasSize(5);
+  }
+}
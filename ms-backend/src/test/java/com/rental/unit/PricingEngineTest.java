@@ -0,0 +1,208 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.rental.entity.Accessory;
+import com.rental.entity.Group;
+import com.rental.repository.AccessoryRepository;
+import com.rental.repository.GroupRepository;
+import com.rental.service.exception.AccessoryNotFoundException;
+import com.rental.service.exception.GroupNotFoundException;
+import com.rental.service.exception.InvalidRentalPeriodException;
+import com.rental.service.pricing.PriceQuote;
+import com.rental.service.pricing.PricingEngine;
+import com.rental.service.pricing.PricingProperties;
+import com.rental.service.pricing.PricingProperties.Season;
+import com.rental.service.pricing.RateTable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit Tests to Pricing Engine Class
+ * */
+@ExtendWith(MockitoExtension.class)
+public class PricingEngineTest {
+
+  private static final PricingProperties NEUTRAL = rules(0, List.of(), 0, 730);
+
+  private static final Group GROUP = new Group(UUID.randomUUID(), "Group A", "Mobi, Uno", 100.00, "url", 10);
+  private static final Accessory GPS = new Accessory(UUID.randomUUID(), "GPS", "Smartphone with gps.", 5, 20.00);
+
+  @Mock
+  GroupRepository groupRepository;
+
+  @Mock
+  AccessoryRepository accessoryRepository;
+
+  @Test
+  public void testRebuildLoadsRatesFromRepositories() throws Exception {
+    // Arrange
+    when(groupRepository.findAll()).thenReturn(List.of(GROUP));
+    when(accessoryRepository.findAll()).thenReturn(List.of(GPS));
+    PricingEngine engine = new PricingEngine(groupRepository, accessoryRepository, NEUTRAL);
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+
+    // Act
+    engine.rebuild();
+    PriceQuote quote = engine.quote(GROUP.getId(), List.of(GPS.getId()), pickup, pickup.plusDays(3));
+
+    // Assert
+    assertThat(quote.days()).isEqualTo(3);
+    assertThat(quote.totalAmount()).isEqualTo(360.00);
+  }
+
+  @Test
+  public void testPartialDayIsChargedAsAWholeDay() throws Exception {
+    // Arrange
+    PricingEngine engine = engine(NEUTRAL);
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+
+    // Act
+    PriceQuote quote = engine.quote(GROUP.getId(), List.of(GPS.getId()), pickup, pickup.plusDays(2).plusHours(1));
+
+    // Assert
+    assertThat(quote.days()).isEqualTo(3);
+    assertThat(quote.groupCents()).isEqualTo(30_000);
+    assertThat(quote.accessoriesCents()).isEqualTo(6_000);
+    assertThat(quote.totalAmount()).isEqualTo(360.00);
+  }
+
+  @Test
+  public void testWeekendSurchargeAppliesOnlyToSaturdayAndSunday() throws Exception {
+    // Arrange
+    PricingEngine engine = engine(rules(25, List.of(), 0, 730));
+    LocalDateTime friday = nextDay(DayOfWeek.FRIDAY);
+
+    // Act
+    PriceQuote quote = engine.quote(GROUP.getId(), Collections.emptyList(), friday, friday.plusDays(3));
+
+    // Assert
+    assertThat(quote.groupCents()).isEqualTo(10_000 + 12_500 + 12_500);
+  }
+
+  @Test
+  public void testSeasonWrapsTheNewYear() {
+    // Arrange
+    Season holidays = new Season(MonthDay.of(12, 30), MonthDay.of(1, 2), 10);
+    PricingEngine engine = engine(rules(0, List.of(holidays), 0, 730));
+    LocalDateTime pickup = LocalDateTime.of(2040, 12, 29, 10, 0);
+
+    // Act
+    PriceQuote quote = engine.quote(GROUP, Collections.emptyList(), pickup, pickup.plusDays(6));
+
+    // Assert
+    assertThat(quote.groupCents()).isEqualTo(10_000 + 4 * 11_000 + 10_000);
+  }
+
+  @Test
+  public void testLongTermDiscountAppliesFromConfiguredDays() {
+    // Arrange
+    PricingEngine engine = engine(rules(0, List.of(), 10, 730));
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+
+    // Act
+    PriceQuote shortTerm = engine.quote(GROUP, List.of(GPS), pickup, pickup.plusDays(6));
+    PriceQuote longTerm = engine.quote(GROUP, List.of(GPS), pickup, pickup.plusDays(7));
+
+    // Assert
+    assertThat(shortTerm.discountCents()).isZero();
+    assertThat(shortTerm.totalAmount()).isEqualTo(720.00);
+    assertThat(longTerm.discountCents()).isEqualTo(8_400);
+    assertThat(longTerm.totalAmount()).isEqualTo(756.00);
+  }
+
+  @Test
+  public void testStaleTableIsNotUsedForAChangedRate() {
+    // Arrange
+    PricingEngine engine = engine(NEUTRAL);
+    Group repriced = new Group(GROUP.getId(), "Group A", "Mobi, Uno", 150.00, "url", 10);
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+
+    // Act
+    PriceQuote quote = engine.quote(repriced, Collections.emptyList(), pickup, pickup.plusDays(2));
+
+    // Assert
+    assertThat(quote.totalAmount()).isEqualTo(300.00);
+  }
+
+  @Test
+  public void testPrefixSumsMatchPricingDayByDay() {
+    // Arrange
+    List<Season> seasons = List.of(new Season(MonthDay.of(12, 20), MonthDay.of(1, 5), 15));
+    LocalDate today = LocalDate.now();
+    RateTable table = RateTable.compile(12_345, today, rules(30, seasons, 0, 730));
+    RateTable shortTable = RateTable.compile(12_345, today, rules(30, seasons, 0, 20));
+
+    // Act & Assert
+    for (int start = -5; start < 40; start++) {
+      for (int days = 1; days <= 30; days++) {
+        LocalDate from = today.plusDays(start);
+        assertThat(shortTable.sum(from, days)).isEqualTo(table.sum(from, days));
+      }
+    }
+  }
+
+  @Test
+  public void testRemovedGroupCannotBeQuoted() {
+    // Arrange
+    PricingEngine engine = engine(NEUTRAL);
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+
+    // Act
+    engine.groupRemoved(GROUP.getId());
+
+    // Assert
+    assertThrows(GroupNotFoundException.class,
+        () -> engine.quote(GROUP.getId(), Collections.emptyList(), pickup, pickup.plusDays(1)));
+  }
+
+  @Test
+  public void testUnknownAccessoryCannotBeQuoted() {
+    // Arrange
+    PricingEngine engine = engine(NEUTRAL);
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+
+    // Act & Assert
+    assertThrows(AccessoryNotFoundException.class,
+        () -> engine.quote(GROUP.getId(), List.of(UUID.randomUUID()), pickup, pickup.plusDays(1)));
+  }
+
+  @Test
+  public void testPeriodTooLongToCountIsRejected() {
+    // Arrange
+    LocalDateTime pickup = nextDay(DayOfWeek.MONDAY);
+    LocalDateTime farReturn = pickup.plusYears(10_000_000);
+
+    // Act & Assert
+    assertThat(PricingEngine.rentalDays(pickup, pickup.plusHours(1))).isEqualTo(1);
+    assertThrows(InvalidRentalPeriodException.class, () -> PricingEngine.rentalDays(pickup, farReturn));
+  }
+
+  private PricingEngine engine(PricingProperties rules) {
+    PricingEngine engine = new PricingEngine(groupRepository, accessoryRepository, rules);
+    engine.groupSaved(GROUP);
+    engine.accessorySaved(GPS);
+    return engine;
+  }
+
+  private static PricingProperties rules(int weekendPercent, List<Season> seasons,
+                                         int longTermDiscountPercent, int horizonDays) {
+    return new PricingProperties(weekendPercent, seasons, 7, longTermDiscountPercent, horizonDays);
+  }
+
+  private static LocalDateTime nextDay(DayOfWeek dayOfWeek) {
+    return LocalDate.now().with(TemporalAdjusters.next(dayOfWeek)).atTime(10, 0);
+  }
+}
@@ -0,0 +1,58 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.rental.service.exception.InvalidRentalPeriodException;
+import com.rental.utils.RentalPeriodUtils;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests to Rental Period Utils Class
+ * */
+public class RentalPeriodUtilsTest {
+
+  private static final LocalDateTime PICKUP = LocalDateTime.now().plusDays(1).withNano(0);
+
+  @Test
+  public void testPeriodWithinBoundsIsAccepted() {
+    // Act & Assert
+    assertDoesNotThrow(() -> RentalPeriodUtils.validate(PICKUP, PICKUP.plusDays(RentalPeriodUtils.MAX_RENTAL_DAYS)));
+  }
+
+  @Test
+  public void testReturnBeforePickupIsRejected() {
+    // Act & Assert
+    assertThat(RentalPeriodUtils.isReturnAfterPickup(PICKUP, PICKUP)).isFalse();
+    assertThrows(InvalidRentalPeriodException.class,
+        () -> RentalPeriodUtils.validate(PICKUP, PICKUP.minusHours(1)));
+  }
+
+  @Test
+  public void testOverlongRentalIsRejected() {
+    // Act & Assert
+    assertThat(RentalPeriodUtils.isWithinBounds(PICKUP, PICKUP.plusYears(500))).isFalse();
+    assertThrows(InvalidRentalPeriodException.class,
+        () -> RentalPeriodUtils.validate(PICKUP, PICKUP.plusDays(RentalPeriodUtils.MAX_RENTAL_DAYS).plusMinutes(1)));
+  }
+
+  @Test
+  public void testPickupTooFarAheadIsRejected() {
+    // Arrange
+    LocalDateTime farPickup = PICKUP.plusDays(RentalPeriodUtils.MAX_ADVANCE_DAYS);
+
+    // Act & Assert
+    assertThrows(InvalidRentalPeriodException.class,
+        () -> RentalPeriodUtils.validate(farPickup, farPickup.plusDays(1)));
+  }
+
+  @Test
+  public void testMissingDatesAreLeftToNotNull() {
+    // Act & Assert
+    assertThat(RentalPeriodUtils.isWithinBounds(null, PICKUP)).isTrue();
+    assertThat(RentalPeriodUtils.isReturnAfterPickup(PICKUP, null)).isTrue();
+    assertThrows(InvalidRentalPeriodException.class, () -> RentalPeriodUtils.validate(null, PICKUP));
+  }
+}
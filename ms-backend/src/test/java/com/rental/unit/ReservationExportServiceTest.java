@@ -0,0 +1,86 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rental.enums.PaymentType;
+import com.rental.enums.ReservationStatus;
+import com.rental.repository.ReservationRepository;
+import com.rental.repository.projection.ReservationExportRow;
+import com.rental.service.reservation.ReservationExportService;
+import com.rental.service.reservation.ReservationExportService.Format;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit Tests to Reservation Export Service Class
+ * */
+@ExtendWith(MockitoExtension.class)
+public class ReservationExportServiceTest {
+
+  private static final LocalDateTime PICKUP = LocalDateTime.of(2024, 7, 1, 10, 0);
+
+  @Mock
+  ReservationRepository repository;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  ReservationExportService service;
+
+  @BeforeEach
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    service = new ReservationExportService(repository, transactionManager, objectMapper);
+  }
+
+  @Test
+  public void testNdjsonWritesOneObjectPerLine() {
+    // Arrange
+    when(repository.streamExportRows()).thenReturn(Stream.of(row("Ana"), row("Bruno")));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    long written = service.export(Format.NDJSON, out);
+
+    // Assert
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(written).isEqualTo(2);
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{\"id\":").contains("\"customerName\":\"Ana\"");
+    assertThat(lines[1]).contains("\"customerName\":\"Bruno\"");
+  }
+
+  @Test
+  public void testCsvWritesHeaderAndRows() {
+    // Arrange
+    when(repository.streamExportRows()).thenReturn(Stream.of(row("Ana, Maria")));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    service.export(Format.CSV, out);
+
+    // Assert
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines[0]).isEqualTo("id,customerId,customerName,customerEmail,groupId,groupName,"
+        + "pickupDateTime,returnDateTime,paymentType,totalAmount,totalDays,reservationStatus,createdAt");
+    assertThat(lines[1]).contains("\"Ana, Maria\"").contains("2024-07-01T10:00:00");
+  }
+
+  private static ReservationExportRow row(String customerName) {
+    return new ReservationExportRow(UUID.randomUUID(), UUID.randomUUID(), customerName, "customer@email.com",
+        UUID.randomUUID(), "Group A", PICKUP, PICKUP.plusDays(3), PaymentType.CASH, 360.00, 3,
+        ReservationStatus.PENDING, PICKUP.minusDays(1));
+  }
+}
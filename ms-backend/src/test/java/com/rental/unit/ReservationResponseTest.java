@@ -0,0 +1,78 @@
+package com.rental.unit;
+
+import static com.rental.mock.AccessoryMock.*;
+import static com.rental.mock.CustomerMock.CUSTOMER_01;
+import static com.rental.mock.GroupMock.GROUP_01;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rental.controller.dto.reservation.ReservationResponse;
+import com.rental.entity.Reservation;
+import com.rental.enums.ReservationStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests to Reservation Response Class
+ * */
+public class ReservationResponseTest {
+
+  private static final int MAX_PAYLOAD_BYTES = 1024;
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  @Test
+  public void testResponseCarriesSummariesOnly() throws Exception {
+    // Arrange
+    Reservation reservation = reservation();
+
+    // Act
+    byte[] payload = objectMapper.writeValueAsBytes(ReservationResponse.fromEntity(reservation));
+    JsonNode json = objectMapper.readTree(payload);
+
+    // Assert
+    assertThat(json.get("customer").size()).isEqualTo(2);
+    assertThat(json.get("customer").get("id").asText()).isEqualTo(CUSTOMER_01.getId().toString());
+    assertThat(json.get("customer").get("name").asText()).isEqualTo(CUSTOMER_01.getFullName());
+    assertThat(json.get("group").size()).isEqualTo(3);
+    assertThat(json.get("group").get("dailyRate").asDouble()).isEqualTo(GROUP_01.getDailyRate());
+    assertThat(json.findValue("password")).isNull();
+    assertThat(json.findValue("authorities")).isNull();
+  }
+
+  @Test
+  public void testPayloadStaysBounded() throws Exception {
+    // Arrange
+    Reservation reservation = reservation();
+
+    // Act
+    byte[] payload = objectMapper.writeValueAsBytes(ReservationResponse.fromEntity(reservation));
+
+    // Assert
+    assertThat(payload.length).isLessThan(MAX_PAYLOAD_BYTES);
+  }
+
+  private static Reservation reservation() {
+    LocalDateTime pickup = LocalDateTime.of(2024, 7, 1, 10, 0);
+
+    return Reservation.builder()
+        .id(UUID.randomUUID())
+        .customer(CUSTOMER_01)
+        .group(GROUP_01)
+        .accessories(List.of(ACCESSORY_01, ACCESSORY_02))
+        .pickupDateTime(pickup)
+        .returnDateTime(pickup.plusDays(3))
+        .totalAmount(720.00)
+        .totalDays(3)
+        .reservationStatus(ReservationStatus.PENDING)
+        .createdAt(pickup.minusDays(10))
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.rental.controller.dto.cache.TokenVerificationStats;
+import com.rental.service.TokenService;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests to Token Service Class
+ * */
+public class TokenServiceTest {
+
+  private static final String SECRET = "test-secret";
+
+  TokenService service;
+
+  @BeforeEach
+  public void setUp() {
+    service = new TokenService(SECRET, 100);
+  }
+
+  @Test
+  public void testRepeatedTokenIsVerifiedOnce() {
+    // Arrange
+    String token = service.generateToken("user@example.com");
+
+    // Act
+    String first = service.validateToken(token);
+    String second = service.validateToken(token);
+    TokenVerificationStats stats = service.getVerificationStats();
+
+    // Assert
+    assertThat(first).isEqualTo("user@example.com");
+    assertThat(second).isEqualTo("user@example.com");
+    assertThat(stats.verificationCount()).isEqualTo(1);
+    assertThat(stats.hitCount()).isEqualTo(1);
+    assertThat(stats.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testTamperedTokenIsRejected() {
+    // Arrange
+    String token = JWT.create()
+        .withSubject("user@example.com")
+        .withExpiresAt(Instant.now().plusSeconds(60))
+        .sign(Algorithm.HMAC256("another-secret"));
+
+    // Act & Assert
+    assertThrows(JWTVerificationException.class, () -> service.validateToken(token));
+    assertThat(service.getVerificationStats().estimatedSize()).isZero();
+  }
+
+  @Test
+  public void testExpiredTokenIsRejected() {
+    // Arrange
+    String token = JWT.create()
+        .withSubject("user@example.com")
+        .withExpiresAt(Instant.now().minusSeconds(60))
+        .sign(Algorithm.HMAC256(SECRET));
+
+    // Act & Assert
+    assertThrows(JWTVerificationException.class, () -> service.validateToken(token));
+  }
+}
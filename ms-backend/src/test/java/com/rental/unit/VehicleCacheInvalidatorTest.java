@@ -0,0 +1,60 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rental.cache.CacheGenerations;
+import com.rental.cache.VehicleCacheInvalidator;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Unit Tests to Vehicle Cache Invalidator Class
+ * */
+public class VehicleCacheInvalidatorTest {
+
+  CacheManager cacheManager;
+  CacheGenerations generations;
+  VehicleCacheInvalidator invalidator;
+
+  @BeforeEach
+  public void setUp() {
+    cacheManager = new ConcurrentMapCacheManager();
+    generations = new CacheGenerations();
+    invalidator = new VehicleCacheInvalidator(cacheManager, generations);
+  }
+
+  @Test
+  public void testVehicleChangedEvictsOnlyItsEntries() {
+    // Arrange
+    UUID changed = UUID.randomUUID();
+    UUID untouched = UUID.randomUUID();
+    cacheManager.getCache("vehicleById").put(changed, "changed");
+    cacheManager.getCache("vehicleById").put(untouched, "untouched");
+    cacheManager.getCache("vehicleByLicensePlate").put("OLD-0001", "changed");
+    cacheManager.getCache("vehicleByLicensePlate").put("RTB-3311", "untouched");
+
+    // Act
+    invalidator.vehicleChanged(changed, "OLD-0001", "NEW-0001");
+
+    // Assert
+    assertThat(cacheManager.getCache("vehicleById").get(changed)).isNull();
+    assertThat(cacheManager.getCache("vehicleById").get(untouched)).isNotNull();
+    assertThat(cacheManager.getCache("vehicleByLicensePlate").get("OLD-0001")).isNull();
+    assertThat(cacheManager.getCache("vehicleByLicensePlate").get("RTB-3311")).isNotNull();
+    assertThat(generations.current("allVehicles")).isEqualTo(1);
+  }
+
+  @Test
+  public void testVehicleCreatedAdvancesListingGeneration() {
+    // Act
+    invalidator.vehicleCreated();
+    invalidator.vehicleCreated();
+
+    // Assert
+    assertThat(generations.current("allVehicles")).isEqualTo(2);
+    assertThat(generations.current("allGroups")).isZero();
+  }
+}
@@ -0,0 +1,176 @@
+package com.rental.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rental.cache.VehicleCacheInvalidator;
+import com.rental.controller.dto.vehicle.VehicleImportReport;
+import com.rental.controller.dto.vehicle.VehicleImportReport.RowError;
+import com.rental.entity.Vehicle;
+import com.rental.repository.VehicleRepository;
+import com.rental.service.VehicleImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit Tests to Vehicle Import Service Class
+ * */
+@ExtendWith(MockitoExtension.class)
+public class VehicleImportServiceTest {
+
+  @Mock
+  VehicleRepository repository;
+
+  @Mock
+  VehicleCacheInvalidator cacheInvalidator;
+
+  @Mock
+  EntityManager entityManager;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  VehicleImportService service;
+
+  @BeforeEach
+  public void setUp() {
+    service = new VehicleImportService(repository, cacheInvalidator, entityManager,
+        Validation.buildDefaultValidatorFactory().getValidator(), transactionManager,
+        new ObjectMapper(), 2, 10);
+  }
+
+  @Test
+  public void testCsvRowsAreSavedInBatches() throws IOException {
+    // Arrange
+    String csv = """
+        model,licensePlate,brand,color,yearOfManufacture
+        Mobi,ABC1D23,Fiat,White,2022
+        Onix,DEF4G56,Chevrolet,Black,2023
+        "Compass, Limited",GHI7J89,Jeep,Gray,2024
+        """;
+
+    // Act
+    VehicleImportReport report = service.importCsv(body(csv));
+
+    // Assert
+    assertThat(report.rows()).isEqualTo(3);
+    assertThat(report.imported()).isEqualTo(3);
+    assertThat(report.errors()).isEmpty();
+    verify(repository, times(2)).saveAllAndFlush(anyList());
+    verify(entityManager, times(2)).clear();
+    verify(cacheInvalidator, times(1)).vehicleCreated();
+  }
+
+  @Test
+  public void testCsvQuotedFieldMaySpanLines() throws IOException {
+    // Arrange
+    String csv = """
+        model,licensePlate,brand,color,yearOfManufacture
+        "Compass
+        Limited",GHI7J89,Jeep,Gray,2024
+        Onix,,Chevrolet,Black,2023
+        Mobi,ABC1D23,Fiat,White,2022,extra
+        """;
+
+    // Act
+    VehicleImportReport report = service.importCsv(body(csv));
+
+    // Assert
+    assertThat(report.rows()).isEqualTo(3);
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.errors()).containsExactly(
+        new RowError(4, "License plate cannot be blank"),
+        new RowError(5, "Malformed row: more values than columns"));
+  }
+
+  @Test
+  public void testInvalidCsvRowsAreReportedWithTheirLine() throws IOException {
+    // Arrange
+    String csv = """
+        model,licensePlate,brand,color,yearOfManufacture
+        Mobi,ABC1D23,Fiat,White,2022
+        Onix,,Chevrolet,Black,23
+        """;
+
+    // Act
+    VehicleImportReport report = service.importCsv(body(csv));
+
+    // Assert
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.failed()).isEqualTo(1);
+    assertThat(report.errors()).containsExactly(new RowError(3,
+        "License plate cannot be blank; Year of manufacture must have four digits"));
+  }
+
+  @Test
+  public void testMalformedNdjsonLineDoesNotStopTheImport() throws IOException {
+    // Arrange
+    String ndjson = """
+        {"model":"Mobi","licensePlate":"ABC1D23","brand":"Fiat","color":"White","yearOfManufacture":"2022"}
+        {"model":"Onix",
+        {"model":"Kwid","licensePlate":"KLM1N23","brand":"Renault","color":"Red","yearOfManufacture":"2021"}
+        """;
+
+    // Act
+    VehicleImportReport report = service.importNdjson(body(ndjson));
+
+    // Assert
+    assertThat(report.rows()).isEqualTo(3);
+    assertThat(report.imported()).isEqualTo(2);
+    assertThat(report.errors()).singleElement()
+        .satisfies(error -> assertThat(error.line()).isEqualTo(2));
+  }
+
+  @Test
+  public void testFailedBatchIsRetriedRowByRow() throws IOException {
+    // Arrange
+    String ndjson = """
+        {"model":"Mobi","licensePlate":"ABC1D23","brand":"Fiat","color":"White","yearOfManufacture":"2022"}
+        {"model":"Onix","licensePlate":"ABC1D23","brand":"Chevrolet","color":"Black","yearOfManufacture":"2023"}
+        """;
+    when(repository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+    when(repository.saveAndFlush(any(Vehicle.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0))
+        .thenThrow(new DataIntegrityViolationException("duplicate license plate"));
+
+    // Act
+    VehicleImportReport report = service.importNdjson(body(ndjson));
+
+    // Assert
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.errors()).containsExactly(new RowError(2, "Could not be saved: duplicate license plate"));
+  }
+
+  @Test
+  public void testNothingImportedKeepsCaches() throws IOException {
+    // Act
+    VehicleImportReport report = service.importNdjson(body("{\"model\":\"\"}\n"));
+
+    // Assert
+    assertThat(report.imported()).isZero();
+    assertThat(report.errorsTruncated()).isFalse();
+    verify(cacheInvalidator, never()).vehicleCreated();
+  }
+
+  private static InputStream body(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -9,6 +9,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.rental.cache.VehicleCacheInvalidator;
+import com.rental.controller.dto.vehicle.VehicleDto;
 import com.rental.entity.Vehicle;
 import com.rental.repository.VehicleRepository;
 import com.rental.service.VehicleService;
@@ -17,6 +19,7 @@ import com.rental.service.exception.PersonNotFoundException;
 import com.rental.service.exception.VehicleNotFoundException;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,10 +27,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * Unit Tests to Vehicle Service Class
@@ -43,6 +46,9 @@ public class VehicleServiceTest {
   @Mock
   VehicleRepository repository;
 
+  @Mock
+  VehicleCacheInvalidator cacheInvalidator;
+
   @Test
   public void testVehicleRetrievalById() throws VehicleNotFoundException {
     // Arrange
@@ -67,22 +73,37 @@ public class VehicleServiceTest {
             () -> service.getVehicleById(id));
   }
 
+  @Test
+  public void testVehicleDtoRetrievalById() throws VehicleNotFoundException {
+    // Arrange
+    when(repository.findDtoById(eq(VEHICLE_01.getId())))
+        .thenReturn(Optional.of(VehicleDto.fromEntity(VEHICLE_01)));
+
+    // Act
+    VehicleDto vehicleFromDb = service.getVehicleDtoById(VEHICLE_01.getId());
+
+    // Assert
+    assertThat(vehicleFromDb).isEqualTo(VehicleDto.fromEntity(VEHICLE_01));
+  }
+
   @Test
   public void testVehicleRetrievalByLicensePlate() throws VehicleNotFoundException {
     // Arrange
-    when(repository.findByLicensePlate(eq(VEHICLE_01.getLicensePlate()))).thenReturn(VEHICLE_01);
+    when(repository.findDtoByLicensePlate(eq(VEHICLE_01.getLicensePlate())))
+        .thenReturn(Optional.of(VehicleDto.fromEntity(VEHICLE_01)));
 
     // Act
-    Vehicle vehicleFromDb = service.getVehicleByLicensePlate(VEHICLE_01.getLicensePlate());
+    VehicleDto vehicleFromDb = service.getVehicleByLicensePlate(VEHICLE_01.getLicensePlate());
 
     // Assert
-    assertThat(vehicleFromDb).isEqualTo(VEHICLE_01);
+    assertThat(vehicleFromDb.id()).isEqualTo(VEHICLE_01.getId());
+    assertThat(vehicleFromDb.licensePlate()).isEqualTo(VEHICLE_01.getLicensePlate());
   }
 
   @Test
   public void testVehicleRetrievalByLicensePlateIsEmpty() {
     // Arrange
-    when(repository.findByLicensePlate(VEHICLE_01.getLicensePlate())).thenReturn(null);
+    when(repository.findDtoByLicensePlate(VEHICLE_01.getLicensePlate())).thenReturn(Optional.empty());
 
     // Act + Assert
     assertThrows(VehicleNotFoundException.class,
@@ -92,37 +113,37 @@ public class VehicleServiceTest {
   @Test
   public void testRetrievalAllVehicles() {
     // Arrange
-    List<Vehicle> vehicles = Arrays.asList(VEHICLE_01, VEHICLE_02);
-    Page<Vehicle> page = new PageImpl<>(vehicles);
+    List<VehicleDto> vehicles = Stream.of(VEHICLE_01, VEHICLE_02).map(VehicleDto::fromEntity).toList();
+    Slice<VehicleDto> page = new SliceImpl<>(vehicles);
     Pageable pageable = PageRequest.of(0, 2);
 
-    when(repository.findAll(pageable)).thenReturn(page);
+    when(repository.findDtoPage(pageable)).thenReturn(page);
 
     // Act
-    List<Vehicle> getAllVehicles = service.getAllVehicles(0, 2);
+    List<VehicleDto> getAllVehicles = service.getAllVehicles(0, 2);
 
     // Assert
-    verify(repository).findAll(pageable);
+    verify(repository).findDtoPage(pageable);
     assertThat(getAllVehicles).isNotEmpty();
     assertThat(getAllVehicles).hasSize(2);
-    assertThat(getAllVehicles.get(0)).isEqualTo(VEHICLE_01);
-    assertThat(getAllVehicles.get(1)).isEqualTo(VEHICLE_02);
+    assertThat(getAllVehicles.get(0)).isEqualTo(VehicleDto.fromEntity(VEHICLE_01));
+    assertThat(getAllVehicles.get(1)).isEqualTo(VehicleDto.fromEntity(VEHICLE_02));
   }
 
   @Test
   public void testRetrievalAllVehiclesNotFound() {
     // Arrange
-    List<Vehicle> emptyVehicles = Collections.emptyList();
-    Page<Vehicle> emptyPage = new PageImpl<>(emptyVehicles);
+    List<VehicleDto> emptyVehicles = Collections.emptyList();
+    Slice<VehicleDto> emptyPage = new SliceImpl<>(emptyVehicles);
     Pageable pageable = PageRequest.of(0, 2);
 
-    when(repository.findAll(pageable)).thenReturn(emptyPage);
+    when(repository.findDtoPage(pageable)).thenReturn(emptyPage);
 
     // Act
-    List<Vehicle> getAllVehicles = service.getAllVehicles(0, 2);
+    List<VehicleDto> getAllVehicles = service.getAllVehicles(0, 2);
 
     // Assert
-    verify(repository).findAll(pageable);
+    verify(repository).findDtoPage(pageable);
     assertThat(getAllVehicles).isEmpty();
   }
 
@@ -136,6 +157,7 @@ public class VehicleServiceTest {
 
     // Assert
     assertThat(createdVehicle).isEqualTo(VEHICLE_01);
+    verify(cacheInvalidator).vehicleCreated();
   }
 
   @Test
@@ -164,6 +186,21 @@ public class VehicleServiceTest {
     assertThat(vehicleFromDb).isEqualTo(VEHICLE_01);
   }
 
+  @Test
+  public void testUpdateVehicleEvictsBothLicensePlates() throws VehicleNotFoundException {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    Vehicle vehicle = new Vehicle(id, "Fiat Uno", "OLD-0001", "FIAT", "White", "2010/2011");
+    when(repository.findById(eq(id))).thenReturn(Optional.of(vehicle));
+    when(repository.save(vehicle)).thenReturn(vehicle);
+
+    // Act
+    service.updateVehicle(new Vehicle("Fiat Uno", "NEW-0001", "FIAT", "Black", "2010/2011"), id);
+
+    // Assert
+    verify(cacheInvalidator).vehicleChanged(id, "OLD-0001", "NEW-0001");
+  }
+
   @Test
   public void testUpdateVehicleNotFound() {
     // Arrange
@@ -187,6 +224,7 @@ public class VehicleServiceTest {
 
     // Assert
     assertThat(deletedVehicle).isEqualTo(VEHICLE_01);
+    verify(cacheInvalidator).vehicleChanged(VEHICLE_01.getId(), VEHICLE_01.getLicensePlate());
   }
 
   @Test
@@ -0,0 +1,111 @@
+package com.rental.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON reports benchmark by benchmark.
+ *
+ * <p>A benchmark regressed when it got worse by more than the threshold and by more than the
+ * combined score error of both runs. Throughput scores are better when higher, every other
+ * mode when lower.</p>
+ */
+public class BaselineComparison {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * Compares two reports from the command line.
+   *
+   * @param args the baseline report, the current report and optionally the threshold
+   * @throws IOException the io exception
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [threshold]");
+      System.exit(2);
+    }
+
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+    int regressions = compare(Path.of(args[0]), Path.of(args[1]), threshold, System.out);
+    System.exit(regressions > 0 ? 1 : 0);
+  }
+
+  /**
+   * Compares the current report against the baseline and prints one line per benchmark.
+   *
+   * @param baseline  the baseline report
+   * @param current   the current report
+   * @param threshold the relative slowdown reported as a regression
+   * @param out       where the comparison is printed
+   * @return the number of regressions
+   * @throws IOException the io exception
+   */
+  public static int compare(Path baseline, Path current, double threshold, PrintStream out) throws IOException {
+    Map<String, Score> baselineScores = read(baseline);
+    Map<String, Score> currentScores = read(current);
+
+    int regressions = 0;
+    out.printf("%-90s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Current", "Change", "Status");
+    for (Map.Entry<String, Score> entry : currentScores.entrySet()) {
+      Score now = entry.getValue();
+      Score before = baselineScores.get(entry.getKey());
+      if (before == null) {
+        out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", now.score(), "-", "NEW");
+        continue;
+      }
+
+      double change = (now.score() - before.score()) / before.score();
+      double worsening = now.higherIsBetter() ? -change : change;
+      boolean significant = Math.abs(now.score() - before.score()) > before.error() + now.error();
+
+      String status = "OK";
+      if (worsening > threshold && significant) {
+        status = "REGRESSION";
+        regressions++;
+      } else if (worsening < -threshold && significant) {
+        status = "IMPROVED";
+      }
+
+      out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s %s%n",
+          entry.getKey(), before.score(), now.score(), change * 100, status, now.unit());
+    }
+
+    out.printf("%d regression(s) above %.0f%%%n", regressions, threshold * 100);
+    return regressions;
+  }
+
+  private static Map<String, Score> read(Path report) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (JsonNode result : OBJECT_MAPPER.readTree(report.toFile())) {
+      JsonNode metric = result.get("primaryMetric");
+      double error = metric.path("scoreError").asDouble(0);
+      scores.put(key(result), new Score(
+          metric.get("score").asDouble(),
+          Double.isNaN(error) ? 0 : error,
+          metric.get("scoreUnit").asText(),
+          "thrpt".equals(result.get("mode").asText())
+      ));
+    }
+    return scores;
+  }
+
+  private static String key(JsonNode result) {
+    StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+    JsonNode params = result.get("params");
+    if (params != null) {
+      Map<String, String> sorted = new TreeMap<>();
+      params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+      sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+    }
+    return key.toString();
+  }
+
+  private record Score(double score, double error, String unit, boolean higherIsBetter) { }
+}
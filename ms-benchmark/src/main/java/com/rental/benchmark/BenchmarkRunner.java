@@ -0,0 +1,58 @@
+package com.rental.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes a JSON report, optionally comparing it against a baseline.
+ *
+ * <p>Accepts the usual JMH command line arguments plus the system properties:</p>
+ * <ul>
+ *   <li>{@code report}: path of the JSON report, {@code target/jmh-result.json} by default;</li>
+ *   <li>{@code baseline}: JSON report of a previous run to compare against;</li>
+ *   <li>{@code threshold}: relative slowdown reported as a regression, {@code 0.10} by default.</li>
+ * </ul>
+ *
+ * <p>The process exits with status 1 when the comparison finds a regression.</p>
+ */
+public class BenchmarkRunner {
+
+  /**
+   * The entry point of the benchmarks.
+   *
+   * @param args the JMH arguments
+   * @throws Exception the exception
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+        || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    Path report = Path.of(System.getProperty("report", "target/jmh-result.json")).toAbsolutePath();
+    Files.createDirectories(report.getParent());
+    Options options = new OptionsBuilder()
+        .parent(commandLineOptions)
+        .resultFormat(ResultFormatType.JSON)
+        .result(report.toString())
+        .build();
+    new Runner(options).run();
+
+    String baseline = System.getProperty("baseline");
+    if (baseline != null) {
+      double threshold = Double.parseDouble(System.getProperty("threshold", "0.10"));
+      int regressions = BaselineComparison.compare(Path.of(baseline), report, threshold, System.out);
+      if (regressions > 0) {
+        System.exit(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.rental.benchmark;
+
+import com.rental.service.CryptoService;
+import java.util.concurrent.TimeUnit;
+import org.jasypt.util.text.StrongTextEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Crypto service benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoServiceBenchmark {
+
+  private static final String DOCUMENT = "12345678900";
+
+  private String encryptedDocument;
+  private String legacyDocument;
+
+  /**
+   * Set up.
+   */
+  @Setup
+  public void setUp() {
+    encryptedDocument = CryptoService.encrypt(DOCUMENT);
+
+    StrongTextEncryptor legacyEncryptor = new StrongTextEncryptor();
+    legacyEncryptor.setPassword("mySecretKeyToEncrypt");
+    legacyDocument = legacyEncryptor.encrypt(DOCUMENT);
+  }
+
+  /**
+   * Encrypt.
+   *
+   * @return the encrypted document
+   */
+  @Benchmark
+  public String encrypt() {
+    return CryptoService.encrypt(DOCUMENT);
+  }
+
+  /**
+   * Decrypt.
+   *
+   * @return the document
+   */
+  @Benchmark
+  public String decrypt() {
+    return CryptoService.decrypt(encryptedDocument);
+  }
+
+  /**
+   * Decrypt a value written by the legacy encryptor.
+   *
+   * @return the document
+   */
+  @Benchmark
+  public String decryptLegacy() {
+    return CryptoService.decrypt(legacyDocument);
+  }
+}
@@ -0,0 +1,155 @@
+package com.rental.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load test reporting latency percentiles.
+ *
+ * <p>Each client sends a request, waits for the response and sends the next one until the
+ * duration elapses. Running it once against the default platform-thread setup and once with
+ * the {@code virtual-threads} profile compares their tail latency under the same load.</p>
+ */
+public class LoadTest {
+
+  /**
+   * Runs the load test from the command line.
+   *
+   * <p>The bearer token, if any, is read from the {@code token} system property.</p>
+   *
+   * @param args the url, and optionally the number of clients and the duration in seconds
+   * @throws Exception the exception
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      System.err.println("Usage: LoadTest <url> [clients] [seconds]");
+      System.exit(2);
+    }
+
+    URI uri = URI.create(args[0]);
+    int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+    HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+    String token = System.getProperty("token");
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+
+    Result result = run(HttpClient.newHttpClient(), builder.build(), clients, duration);
+    System.out.println(result);
+  }
+
+  /**
+   * Sends the request from the given number of clients for the given duration.
+   *
+   * @param client   the http client
+   * @param request  the request
+   * @param clients  the number of concurrent clients
+   * @param duration how long to send requests
+   * @return the result
+   * @throws Exception the exception
+   */
+  public static Result run(HttpClient client, HttpRequest request, int clients, Duration duration) throws Exception {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+    List<Future<Samples>> futures = new ArrayList<>(clients);
+    for (int i = 0; i < clients; i++) {
+      futures.add(executor.submit(() -> {
+        Samples samples = new Samples();
+        while (System.nanoTime() < deadline) {
+          long start = System.nanoTime();
+          try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            samples.add(System.nanoTime() - start, response.statusCode() >= 400);
+          } catch (Exception e) {
+            samples.add(System.nanoTime() - start, true);
+          }
+        }
+        return samples;
+      }));
+    }
+
+    Samples all = new Samples();
+    for (Future<Samples> future : futures) {
+      all.addAll(future.get());
+    }
+    executor.shutdown();
+
+    return all.result(duration);
+  }
+
+  /**
+   * Latency summary of a load test.
+   *
+   * @param requests   the number of requests sent
+   * @param errors     the requests that failed or got an error status
+   * @param throughput the requests per second
+   * @param p50Millis  the median latency
+   * @param p90Millis  the 90th percentile latency
+   * @param p99Millis  the 99th percentile latency
+   * @param maxMillis  the highest latency
+   */
+  public record Result(long requests, long errors, double throughput,
+                       double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    @Override
+    public String toString() {
+      return String.format("requests=%d errors=%d throughput=%.1f/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+          requests, errors, throughput, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+  }
+
+  private static final class Samples {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    void add(long latency, boolean error) {
+      if (size == latencies.length) {
+        latencies = Arrays.copyOf(latencies, size * 2);
+      }
+      latencies[size++] = latency;
+      if (error) {
+        errors++;
+      }
+    }
+
+    void addAll(Samples other) {
+      if (size + other.size > latencies.length) {
+        latencies = Arrays.copyOf(latencies, size + other.size);
+      }
+      System.arraycopy(other.latencies, 0, latencies, size, other.size);
+      size += other.size;
+      errors += other.errors;
+    }
+
+    Result result(Duration duration) {
+      long[] sorted = Arrays.copyOf(latencies, size);
+      Arrays.sort(sorted);
+
+      return new Result(size, errors, size / (duration.toMillis() / 1000.0),
+          percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+          sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+}
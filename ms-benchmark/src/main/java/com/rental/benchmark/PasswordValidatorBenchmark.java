@@ -0,0 +1,92 @@
+package com.rental.benchmark;
+
+import com.rental.service.validations.IPasswordValidator;
+import com.rental.service.validations.PasswordPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Password validator benchmark.
+ *
+ * <p>Compares the compiled {@link PasswordPolicy} with the former chain of validators, which
+ * compiled one regular expression per rule on every call and scanned the password once per
+ * rule.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordValidatorBenchmark {
+
+  @Param({"RegexChain", "PasswordPolicy"})
+  private String validatorName;
+
+  @Param({"Str0ng!Password", "weakpassword"})
+  private String password;
+
+  private IPasswordValidator validator;
+
+  /**
+   * Set up.
+   */
+  @Setup
+  public void setUp() {
+    validator = switch (validatorName) {
+      case "RegexChain" -> new RegexChain();
+      case "PasswordPolicy" -> new PasswordPolicy();
+      default -> throw new IllegalArgumentException("Unknown validator " + validatorName);
+    };
+  }
+
+  /**
+   * Validate.
+   *
+   * @return the error messages
+   */
+  @Benchmark
+  public List<String> validate() {
+    return validator.validate(password);
+  }
+
+  /**
+   * The former validator chain, kept as the baseline.
+   */
+  static final class RegexChain implements IPasswordValidator {
+
+    private static final String[][] RULES = {
+        {"(?=.*[a-z])", "Password must have at least one lowercase character"},
+        {"(?=.*[0-9])", "Password must have at least one numeric character"},
+        {"(?=.*[!@#$%^&*(),.?\":{}|<>])", "Password must have at least one special character"},
+        {"(?=.*[A-Z])", "Password must have at least one uppercase character"}
+    };
+
+    @Override
+    public List<String> validate(String pass) {
+      List<String> errors = new ArrayList<>();
+      if (pass == null || pass.length() < 8) {
+        errors.add("Password must have at least 8 characters");
+      }
+      for (String[] rule : RULES) {
+        if (!Pattern.compile(rule[0]).matcher(pass).find()) {
+          errors.add(rule[1]);
+        }
+      }
+      return errors;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.rental.benchmark;
+
+import com.rental.entity.Accessory;
+import com.rental.entity.Group;
+import com.rental.service.exception.AccessoryNotFoundException;
+import com.rental.service.exception.GroupNotFoundException;
+import com.rental.service.pricing.PriceQuote;
+import com.rental.service.pricing.PricingEngine;
+import com.rental.service.pricing.PricingProperties;
+import com.rental.service.pricing.PricingProperties.Season;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Pricing engine benchmark.
+ *
+ * <p>Quotes inside the precomputed horizon cost the same for any rental length; the quote
+ * past the horizon shows the day by day fallback.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+  private PricingEngine engine;
+  private UUID groupId;
+  private List<UUID> accessoryIds;
+  private LocalDateTime pickupDateTime;
+  private LocalDateTime farPickupDateTime;
+
+  /**
+   * Set up.
+   */
+  @Setup
+  public void setUp() {
+    PricingProperties rules = new PricingProperties(
+        25,
+        List.of(new Season(MonthDay.of(12, 15), MonthDay.of(1, 5), 20)),
+        7,
+        10,
+        730
+    );
+    engine = new PricingEngine(null, null, rules);
+
+    Group group = new Group(UUID.randomUUID(), "Group A", "Mobi, Uno", 120.00, "url", 10);
+    List<Accessory> accessories = List.of(
+        new Accessory(UUID.randomUUID(), "GPS", "Smartphone with gps.", 5, 90.00),
+        new Accessory(UUID.randomUUID(), "Baby seat", "Up to 5 years.", 5, 30.00),
+        new Accessory(UUID.randomUUID(), "Roof rack", "Up to 50 kg.", 5, 45.00)
+    );
+    engine.groupSaved(group);
+    accessories.forEach(engine::accessorySaved);
+
+    groupId = group.getId();
+    accessoryIds = accessories.stream().map(Accessory::getId).toList();
+    pickupDateTime = LocalDate.now().plusDays(30).atTime(10, 0);
+    farPickupDateTime = LocalDate.now().plusYears(5).atTime(10, 0);
+  }
+
+  /**
+   * Quote a week.
+   *
+   * @return the quote
+   */
+  @Benchmark
+  public PriceQuote quoteWeek() throws GroupNotFoundException, AccessoryNotFoundException {
+    return engine.quote(groupId, accessoryIds, pickupDateTime, pickupDateTime.plusDays(7).plusHours(3));
+  }
+
+  /**
+   * Quote a month.
+   *
+   * @return the quote
+   */
+  @Benchmark
+  public PriceQuote quoteMonth() throws GroupNotFoundException, AccessoryNotFoundException {
+    return engine.quote(groupId, accessoryIds, pickupDateTime, pickupDateTime.plusDays(30));
+  }
+
+  /**
+   * Quote a month past the precomputed horizon.
+   *
+   * @return the quote
+   */
+  @Benchmark
+  public PriceQuote quoteMonthPastHorizon() throws GroupNotFoundException, AccessoryNotFoundException {
+    return engine.quote(groupId, accessoryIds, farPickupDateTime, farPickupDateTime.plusDays(30));
+  }
+}
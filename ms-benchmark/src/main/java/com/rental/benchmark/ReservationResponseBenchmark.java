@@ -0,0 +1,148 @@
+package com.rental.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rental.controller.dto.accessory.AccessoryDto;
+import com.rental.controller.dto.reservation.ReservationResponse;
+import com.rental.entity.Accessory;
+import com.rental.entity.Customer;
+import com.rental.entity.Group;
+import com.rental.entity.Reservation;
+import com.rental.enums.PaymentType;
+import com.rental.enums.ReservationStatus;
+import com.rental.enums.Role;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Reservation response benchmark.
+ *
+ * <p>Compares the compact response, which carries customer and group summaries, with the
+ * previous shape that embedded the Customer and Group entities. The payload size of each is
+ * printed once per fork.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationResponseBenchmark {
+
+  private ObjectMapper objectMapper;
+  private Reservation reservation;
+
+  /**
+   * Set up.
+   *
+   * @throws JsonProcessingException the json processing exception
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    Customer customer = Customer.builder()
+        .id(UUID.randomUUID())
+        .name("Customer Benchmark")
+        .email("customer@example.com")
+        .password("password123")
+        .role(Role.USER)
+        .rawDocument("12345678900")
+        .phoneNumber("11999999999")
+        .build();
+    Group group = new Group(UUID.randomUUID(), "Group A", "Mobi, Uno", 120.00, "url", 10);
+    LocalDateTime pickupDateTime = LocalDateTime.of(2024, 7, 1, 10, 0);
+
+    reservation = Reservation.builder()
+        .id(UUID.randomUUID())
+        .customer(customer)
+        .group(group)
+        .accessories(List.of(
+            new Accessory(UUID.randomUUID(), "GPS", "Smartphone with gps.", 5, 90.00),
+            new Accessory(UUID.randomUUID(), "Baby seat", "Up to 5 years.", 5, 30.00)))
+        .pickupDateTime(pickupDateTime)
+        .returnDateTime(pickupDateTime.plusDays(3))
+        .totalAmount(720.00)
+        .totalDays(3)
+        .reservationStatus(ReservationStatus.PENDING)
+        .createdAt(pickupDateTime.minusDays(10))
+        .build();
+
+    System.out.printf("%nBytes per reservation: legacy %d, compact %d%n",
+        serializeLegacy().length, serialize().length);
+  }
+
+  /**
+   * Map the entity and serialize the response.
+   *
+   * @return the serialized response
+   * @throws JsonProcessingException the json processing exception
+   */
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(ReservationResponse.fromEntity(reservation));
+  }
+
+  /**
+   * Map the entity and serialize the previous response shape, with the entities embedded.
+   *
+   * @return the serialized response
+   * @throws JsonProcessingException the json processing exception
+   */
+  @Benchmark
+  public byte[] serializeLegacy() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(LegacyReservationResponse.fromEntity(reservation));
+  }
+
+  /**
+   * The reservation response before the customer and group summaries.
+   */
+  record LegacyReservationResponse(
+      UUID id,
+      Customer customer,
+      Group group,
+      List<AccessoryDto> accessories,
+      LocalDateTime pickupDateTime,
+      LocalDateTime returnDateTime,
+      PaymentType paymentType,
+      Double totalAmount,
+      Integer totalDays,
+      ReservationStatus reservationStatus,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt
+  ) {
+
+    static LegacyReservationResponse fromEntity(Reservation reservation) {
+      return new LegacyReservationResponse(
+          reservation.getId(),
+          reservation.getCustomer(),
+          reservation.getGroup(),
+          reservation.getAccessories().stream().map(AccessoryDto::fromEntity).toList(),
+          reservation.getPickupDateTime(),
+          reservation.getReturnDateTime(),
+          reservation.getPaymentType(),
+          reservation.getTotalAmount(),
+          reservation.getTotalDays(),
+          reservation.getReservationStatus(),
+          reservation.getCreatedAt(),
+          reservation.getUpdatedAt()
+      );
+    }
+  }
+}
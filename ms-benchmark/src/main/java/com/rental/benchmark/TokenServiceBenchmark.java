@@ -0,0 +1,72 @@
+package com.rental.benchmark;
+
+import com.rental.service.TokenService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Token service benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+  private static final String SECRET = "benchmark-secret";
+
+  private TokenService tokenService;
+  private TokenService uncachedTokenService;
+  private String token;
+
+  /**
+   * Set up.
+   */
+  @Setup
+  public void setUp() {
+    tokenService = new TokenService(SECRET, 10_000);
+    uncachedTokenService = new TokenService(SECRET, 0);
+    token = tokenService.generateToken("customer@example.com");
+  }
+
+  /**
+   * Generate token.
+   *
+   * @return the token
+   */
+  @Benchmark
+  public String generateToken() {
+    return tokenService.generateToken("customer@example.com");
+  }
+
+  /**
+   * Validate a token already in the verified token cache.
+   *
+   * @return the subject
+   */
+  @Benchmark
+  public String validateToken() {
+    return tokenService.validateToken(token);
+  }
+
+  /**
+   * Validate a token with the HMAC check on every call.
+   *
+   * @return the subject
+   */
+  @Benchmark
+  public String validateTokenUncached() {
+    return uncachedTokenService.validateToken(token);
+  }
+}
@@ -2,11 +2,13 @@ package com.email;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The type Email application.
  */
 @SpringBootApplication
+@EnableScheduling
 public class EmailApplication {
 
 	/**
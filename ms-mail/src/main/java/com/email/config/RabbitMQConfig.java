@@ -2,8 +2,11 @@ package com.email.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -36,4 +39,26 @@ public class RabbitMQConfig {
     ObjectMapper objectMapper = new ObjectMapper();
     return new Jackson2JsonMessageConverter(objectMapper);
   }
+
+  /**
+   * Listener container factory that hands the listeners batches of messages.
+   *
+   * <p>Prefetch, concurrency, batch size and receive timeout come from the
+   * {@code spring.rabbitmq.listener.simple.*} properties.</p>
+   *
+   * @param configurer        the configurer
+   * @param connectionFactory the connection factory
+   * @return the simple rabbit listener container factory
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory
+  ) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    return factory;
+  }
 }
@@ -3,6 +3,7 @@ package com.email.consumer;
 import com.email.dto.EmailRecordDto;
 import com.email.entity.Email;
 import com.email.service.EmailService;
+import java.util.List;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.BeanUtils;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -31,14 +32,19 @@ public class EmailConsumer {
   /**
    * Listen email queue.
    *
-   * @param emailRecordDto the email record dto
+   * @param emailRecordDtos the batch of email record dtos
    */
   @RabbitListener(queues = "${broker.queue.email.name}")
-  public void listenEmailQueue(@Payload EmailRecordDto emailRecordDto) {
-    var email = new Email();
-    // Converts DTO to Entity
-    BeanUtils.copyProperties(emailRecordDto, email);
-    // Send email
-    emailService.sendEmail(email);
+  public void listenEmailQueue(@Payload List<EmailRecordDto> emailRecordDtos) {
+    List<Email> emails = emailRecordDtos.stream()
+        .map(emailRecordDto -> {
+          var email = new Email();
+          // Converts DTO to Entity
+          BeanUtils.copyProperties(emailRecordDto, email);
+          return email;
+        })
+        .toList();
+    // Send emails
+    emailService.sendEmails(emails);
   }
 }
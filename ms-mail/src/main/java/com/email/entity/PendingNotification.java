@@ -0,0 +1,91 @@
+package com.email.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Admin and manager notification waiting to be sent in the next digest.
+ */
+@Entity
+@Table(name = "pending_notifications")
+public class PendingNotification {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private UUID notificationId;
+  private String emailTo;
+  private String subject;
+
+  @Column(columnDefinition = "TEXT")
+  private String text;
+  private LocalDateTime createdAt;
+
+  /**
+   * Instantiates a new Pending notification.
+   */
+  public PendingNotification() {
+  }
+
+  /**
+   * Instantiates a new Pending notification for an email sent to a user.
+   *
+   * @param email the email
+   */
+  public PendingNotification(Email email) {
+    this.emailTo = email.getEmailTo();
+    this.subject = email.getSubject();
+    this.text = email.getText();
+    this.createdAt = LocalDateTime.now();
+  }
+
+  /**
+   * Gets notification id.
+   *
+   * @return the notification id
+   */
+  public UUID getNotificationId() {
+    return notificationId;
+  }
+
+  /**
+   * Gets email to.
+   *
+   * @return the email to
+   */
+  public String getEmailTo() {
+    return emailTo;
+  }
+
+  /**
+   * Gets subject.
+   *
+   * @return the subject
+   */
+  public String getSubject() {
+    return subject;
+  }
+
+  /**
+   * Gets text.
+   *
+   * @return the text
+   */
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * Gets created at.
+   *
+   * @return the created at
+   */
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
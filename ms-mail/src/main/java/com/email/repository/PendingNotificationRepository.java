@@ -0,0 +1,31 @@
+package com.email.repository;
+
+import com.email.entity.PendingNotification;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The interface Pending notification repository.
+ */
+@Repository
+public interface PendingNotificationRepository extends JpaRepository<PendingNotification, UUID> {
+
+  /**
+   * Locks the oldest pending notifications, skipping rows locked by another flush.
+   *
+   * @param pageable the digest size
+   * @return the locked notifications
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("select n from PendingNotification n order by n.createdAt, n.notificationId")
+  List<PendingNotification> lockOldest(Pageable pageable);
+}
@@ -3,10 +3,13 @@ package com.email.service;
 import com.email.entity.Email;
 import com.email.enums.StatusEmail;
 import com.email.repository.EmailRepository;
-import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
@@ -25,16 +28,23 @@ public class EmailService {
    * The Java mail sender.
    */
   final JavaMailSender javaMailSender;
+  /**
+   * The Notification digest service.
+   */
+  final NotificationDigestService notificationDigestService;
 
   /**
    * Instantiates a new Email service.
    *
-   * @param emailRepository the email repository
-   * @param javaMailSender  the java mail sender
+   * @param emailRepository           the email repository
+   * @param javaMailSender            the java mail sender
+   * @param notificationDigestService the notification digest service
    */
-  public EmailService(EmailRepository emailRepository, JavaMailSender javaMailSender) {
+  public EmailService(EmailRepository emailRepository, JavaMailSender javaMailSender,
+                      NotificationDigestService notificationDigestService) {
     this.emailRepository = emailRepository;
     this.javaMailSender = javaMailSender;
+    this.notificationDigestService = notificationDigestService;
   }
 
   @Value(value = "${spring.mail.username}")
@@ -47,36 +57,66 @@ public class EmailService {
   private String managerEmail;
 
   /**
-   * Send email.
+   * Send a batch of emails, with their admin and manager notifications.
+   *
+   * <p>All messages go through a single {@link JavaMailSender#send(SimpleMailMessage...)} call,
+   * which opens one SMTP connection for the whole batch, and every email row is stored with a
+   * single {@code saveAll}. The SMTP round trips run outside any database transaction. In
+   * digest mode the admin and manager notifications are staged for the next digest instead.</p>
    *
-   * @param email the email
+   * @param emails the emails
    */
-  @Transactional
-  public void sendEmail(Email email) {
-    sendUserEmail(email);
-    sendAdminAndManagerEmail(email);
-  }
-
-  private void sendUserEmail(Email email) {
-    email.setSendDateEmail(LocalDateTime.now());
-    email.setEmailFrom(emailFrom);
+  public void sendEmails(List<Email> emails) {
+    boolean notifyEach = !notificationDigestService.isEnabled() || !notificationDigestService.stage(emails);
+
+    List<Email> records = new ArrayList<>(emails.size() * 2);
+    List<SimpleMailMessage> messages = new ArrayList<>(emails.size() * 2);
+
+    for (Email email : emails) {
+      prepareUserEmail(email);
+      records.add(email);
+      messages.add(userMessage(email));
+
+      if (notifyEach) {
+        Email adminAndManagerEmail = adminAndManagerEmail(email);
+        records.add(adminAndManagerEmail);
+        messages.add(adminAndManagerMessage(adminAndManagerEmail));
+      }
+    }
 
+    Map<Object, Exception> failedMessages = Map.of();
+    boolean allFailed = false;
     try {
-      SimpleMailMessage message = new SimpleMailMessage();
-      message.setTo(email.getEmailTo());
-      message.setSubject(email.getSubject());
-      message.setText(email.getText());
-      javaMailSender.send(message);
-
-      email.setStatusEmail(StatusEmail.SENT);
+      javaMailSender.send(messages.toArray(SimpleMailMessage[]::new));
+    } catch (MailSendException e) {
+      failedMessages = e.getFailedMessages();
+      allFailed = failedMessages.isEmpty();
     } catch (MailException e) {
-      email.setStatusEmail(StatusEmail.ERROR);
+      allFailed = true;
     }
 
-    emailRepository.save(email);
+    for (int i = 0; i < records.size(); i++) {
+      boolean failed = allFailed || failedMessages.containsKey(messages.get(i));
+      records.get(i).setStatusEmail(failed ? StatusEmail.ERROR : StatusEmail.SENT);
+    }
+
+    emailRepository.saveAll(records);
   }
 
-  private void sendAdminAndManagerEmail(Email email) {
+  private void prepareUserEmail(Email email) {
+    email.setSendDateEmail(LocalDateTime.now());
+    email.setEmailFrom(emailFrom);
+  }
+
+  private SimpleMailMessage userMessage(Email email) {
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setTo(email.getEmailTo());
+    message.setSubject(email.getSubject());
+    message.setText(email.getText());
+    return message;
+  }
+
+  private Email adminAndManagerEmail(Email email) {
     Email adminAndManagerEmailEntity = new Email();
     adminAndManagerEmailEntity.setSendDateEmail(LocalDateTime.now());
     adminAndManagerEmailEntity.setEmailFrom(emailFrom);
@@ -86,19 +126,14 @@ public class EmailService {
             "User: " + email.getEmailTo() + "\n" +
             "Subject: " + email.getSubject() + "\n" +
             "Message: " + email.getText());
+    return adminAndManagerEmailEntity;
+  }
 
-    try {
-      SimpleMailMessage message = new SimpleMailMessage();
-      message.setTo(adminEmail, managerEmail);  // Envia para o administrador e o gerente
-      message.setSubject(adminAndManagerEmailEntity.getSubject());
-      message.setText(adminAndManagerEmailEntity.getText());
-      javaMailSender.send(message);
-
-      adminAndManagerEmailEntity.setStatusEmail(StatusEmail.SENT);
-    } catch (MailException e) {
-      adminAndManagerEmailEntity.setStatusEmail(StatusEmail.ERROR);
-    }
-
-    emailRepository.save(adminAndManagerEmailEntity);
+  private SimpleMailMessage adminAndManagerMessage(Email adminAndManagerEmailEntity) {
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setTo(adminEmail, managerEmail);  // Envia para o administrador e o gerente
+    message.setSubject(adminAndManagerEmailEntity.getSubject());
+    message.setText(adminAndManagerEmailEntity.getText());
+    return message;
   }
 }
@@ -0,0 +1,220 @@
+package com.email.service;
+
+import com.email.entity.Email;
+import com.email.entity.PendingNotification;
+import com.email.enums.StatusEmail;
+import com.email.repository.EmailRepository;
+import com.email.repository.PendingNotificationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Groups the admin and manager notifications into periodic digest emails.
+ *
+ * <p>Notifications are staged in the pending_notifications table, so a crash loses none of
+ * them. A digest is sent every {@code notification.digest.interval-ms} or as soon as
+ * {@code notification.digest.max-events} notifications are waiting, and the staged rows are
+ * deleted only once the digest was sent. The staging table holds at most
+ * {@code notification.digest.capacity} rows; notifications beyond it are sent one by one.</p>
+ *
+ * <p>Staging counts and inserts under one lock, in its own transaction, so concurrent
+ * consumers cannot overfill the table. Digests are only sent from the scheduled flushers,
+ * never on a consumer thread.</p>
+ */
+@Service
+public class NotificationDigestService {
+
+  /**
+   * The Pending notification repository.
+   */
+  final PendingNotificationRepository pendingNotificationRepository;
+  /**
+   * The Email repository.
+   */
+  final EmailRepository emailRepository;
+  /**
+   * The Java mail sender.
+   */
+  final JavaMailSender javaMailSender;
+  /**
+   * The Transaction template.
+   */
+  final TransactionTemplate transactionTemplate;
+  /**
+   * The Staging transaction template, committing independently of the caller.
+   */
+  final TransactionTemplate stagingTemplate;
+
+  private final ReentrantLock stageLock = new ReentrantLock();
+  private final AtomicBoolean digestFull = new AtomicBoolean();
+
+  @Value(value = "${notification.digest.enabled:false}")
+  private boolean enabled;
+
+  @Value(value = "${notification.digest.max-events:100}")
+  private int maxEvents;
+
+  @Value(value = "${notification.digest.capacity:10000}")
+  private long capacity;
+
+  @Value(value = "${spring.mail.username}")
+  private String emailFrom;
+
+  @Value(value = "${admin.email}")
+  private String adminEmail;
+
+  @Value(value = "${manager.email}")
+  private String managerEmail;
+
+  /**
+   * Instantiates a new Notification digest service.
+   *
+   * @param pendingNotificationRepository the pending notification repository
+   * @param emailRepository               the email repository
+   * @param javaMailSender                the java mail sender
+   * @param transactionManager            the transaction manager
+   */
+  public NotificationDigestService(PendingNotificationRepository pendingNotificationRepository,
+                                   EmailRepository emailRepository,
+                                   JavaMailSender javaMailSender,
+                                   PlatformTransactionManager transactionManager) {
+    this.pendingNotificationRepository = pendingNotificationRepository;
+    this.emailRepository = emailRepository;
+    this.javaMailSender = javaMailSender;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.stagingTemplate = new TransactionTemplate(transactionManager);
+    this.stagingTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Whether admin and manager notifications are sent as digests.
+   *
+   * @return true if digest mode is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Stages the notifications of the emails for the next digest.
+   *
+   * @param emails the emails sent to users
+   * @return false if the staging table is full and nothing was staged
+   */
+  public boolean stage(List<Email> emails) {
+    stageLock.lock();
+    try {
+      Boolean staged = stagingTemplate.execute(status -> {
+        long pending = pendingNotificationRepository.count();
+        if (pending + emails.size() > capacity) {
+          return false;
+        }
+
+        pendingNotificationRepository.saveAll(emails.stream().map(PendingNotification::new).toList());
+
+        if (pending + emails.size() >= maxEvents) {
+          digestFull.set(true);
+        }
+        return true;
+      });
+      return Boolean.TRUE.equals(staged);
+    } finally {
+      stageLock.unlock();
+    }
+  }
+
+  /**
+   * Sends the waiting notifications as digests, once per interval.
+   */
+  @Scheduled(fixedDelayString = "${notification.digest.interval-ms:60000}")
+  public void flushScheduled() {
+    if (enabled) {
+      flushAll();
+    }
+  }
+
+  /**
+   * Sends the waiting notifications as soon as a full digest was staged.
+   */
+  @Scheduled(fixedDelayString = "${notification.digest.full-check-ms:1000}")
+  public void flushWhenFull() {
+    if (enabled && digestFull.getAndSet(false)) {
+      flushAll();
+    }
+  }
+
+  /**
+   * Sends one digest with the oldest waiting notifications.
+   *
+   * @return the number of notifications sent
+   */
+  public int flush() {
+    Integer sent = transactionTemplate.execute(status -> sendDigest());
+    return sent == null ? 0 : sent;
+  }
+
+  private void flushAll() {
+    while (flush() == maxEvents) {
+      // keep flushing while full digests come back
+    }
+  }
+
+  private int sendDigest() {
+    List<PendingNotification> notifications = pendingNotificationRepository.lockOldest(PageRequest.of(0, maxEvents));
+    if (notifications.isEmpty()) {
+      return 0;
+    }
+
+    Email digest = new Email();
+    digest.setSendDateEmail(LocalDateTime.now());
+    digest.setEmailFrom(emailFrom);
+    digest.setEmailTo(adminEmail);
+    digest.setSubject(notifications.size() + " New Reservations Created");
+    digest.setText(digestText(notifications));
+
+    try {
+      SimpleMailMessage message = new SimpleMailMessage();
+      message.setTo(adminEmail, managerEmail);
+      message.setSubject(digest.getSubject());
+      message.setText(digest.getText());
+      javaMailSender.send(message);
+
+      digest.setStatusEmail(StatusEmail.SENT);
+    } catch (MailException e) {
+      digest.setStatusEmail(StatusEmail.ERROR);
+    }
+
+    emailRepository.save(digest);
+
+    if (digest.getStatusEmail() == StatusEmail.ERROR) {
+      return 0;
+    }
+
+    pendingNotificationRepository.deleteAllInBatch(notifications);
+    return notifications.size();
+  }
+
+  private static String digestText(List<PendingNotification> notifications) {
+    StringBuilder text = new StringBuilder("The following reservations have been created:\n");
+    for (PendingNotification notification : notifications) {
+      text.append("\n")
+          .append(notification.getCreatedAt()).append("\n")
+          .append("User: ").append(notification.getEmailTo()).append("\n")
+          .append("Subject: ").append(notification.getSubject()).append("\n")
+          .append("Message: ").append(notification.getText()).append("\n");
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,53 @@
+package com.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.email.consumer.EmailConsumer;
+import com.email.dto.EmailRecordDto;
+import com.email.entity.Email;
+import com.email.service.EmailService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class EmailConsumerTest {
+
+    @InjectMocks
+    private EmailConsumer emailConsumer;
+
+    @Mock
+    private EmailService emailService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testListenEmailQueue_SendsWholeBatch() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        List<EmailRecordDto> batch = List.of(
+                new EmailRecordDto(userId, "first@example.com", "Subject", "Text"),
+                new EmailRecordDto(UUID.randomUUID(), "second@example.com", "Subject", "Text")
+        );
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Email>> emails = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        emailConsumer.listenEmailQueue(batch);
+
+        // Assert
+        verify(emailService).sendEmails(emails.capture());
+        assertThat(emails.getValue()).hasSize(2);
+        assertThat(emails.getValue().get(0).getUserId()).isEqualTo(userId);
+        assertThat(emails.getValue().get(0).getEmailTo()).isEqualTo("first@example.com");
+        assertThat(emails.getValue().get(1).getEmailTo()).isEqualTo("second@example.com");
+    }
+}
@@ -9,12 +9,17 @@ import com.email.enums.StatusEmail;
 import com.email.repository.EmailRepository;
 
 import com.email.service.EmailService;
+import com.email.service.NotificationDigestService;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.ArgumentCaptor;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -30,6 +35,9 @@ public class EmailServiceTest {
     @Mock
     private JavaMailSender javaMailSender;
 
+    @Mock
+    private NotificationDigestService notificationDigestService;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -40,46 +48,138 @@ public class EmailServiceTest {
     }
 
     @Test
-    public void testSendEmail_Success() {
+    public void testSendEmails_Success() {
         // Arrange
-        Email email = new Email();
-        email.setEmailTo("test@example.com");
-        email.setSubject("Test Subject");
-        email.setText("Test Text");
-
-        doNothing().when(javaMailSender).send(any(SimpleMailMessage.class));
-        when(emailRepository.save(any(Email.class))).thenReturn(email);
+        Email email = email("test@example.com");
+        ArgumentCaptor<SimpleMailMessage[]> sent = ArgumentCaptor.forClass(SimpleMailMessage[].class);
 
         // Act
-        emailService.sendEmail(email);
+        emailService.sendEmails(List.of(email));
 
         // Assert
-        verify(javaMailSender, times(2)).send(any(SimpleMailMessage.class));
-        verify(emailRepository, times(2)).save(any(Email.class));
+        verify(javaMailSender, times(1)).send(sent.capture());
+        verify(emailRepository, times(1)).saveAll(argThat((List<Email> records) -> records.size() == 2
+                && records.get(0) == email
+                && records.stream().allMatch(record -> record.getStatusEmail() == StatusEmail.SENT)));
+        assertThat(sent.getValue()).hasSize(2);
         assertThat(email.getStatusEmail()).isEqualTo(StatusEmail.SENT);
         assertThat(email.getSendDateEmail()).isNotNull();
         assertThat(email.getEmailFrom()).isEqualTo("user@example.com");
     }
 
     @Test
-    public void testSendEmail_Failure() {
+    public void testSendEmails_Failure() {
         // Arrange
-        Email email = new Email();
-        email.setEmailTo("test@example.com");
-        email.setSubject("Test Subject");
-        email.setText("Test Text");
-
-        doThrow(new MailException("Mail sending failed") {}).when(javaMailSender).send(any(SimpleMailMessage.class));
-        when(emailRepository.save(any(Email.class))).thenReturn(email);
+        Email email = email("test@example.com");
+        doThrow(new MailException("Mail sending failed") {}).when(javaMailSender).send(any(SimpleMailMessage[].class));
 
         // Act
-        emailService.sendEmail(email);
+        emailService.sendEmails(List.of(email));
 
         // Assert
-        verify(javaMailSender, times(2)).send(any(SimpleMailMessage.class));
-        verify(emailRepository, times(2)).save(any(Email.class));
+        verify(javaMailSender, times(1)).send(any(SimpleMailMessage[].class));
+        verify(emailRepository, times(1)).saveAll(argThat((List<Email> records) -> records.size() == 2
+                && records.get(0) == email
+                && records.stream().allMatch(record -> record.getStatusEmail() == StatusEmail.ERROR)));
         assertThat(email.getStatusEmail()).isEqualTo(StatusEmail.ERROR);
         assertThat(email.getSendDateEmail()).isNotNull();
         assertThat(email.getEmailFrom()).isEqualTo("user@example.com");
     }
+
+    @Test
+    public void testSendEmails_UsesOneSendAndOneSaveAll() {
+        // Arrange
+        List<Email> emails = List.of(email("first@example.com"), email("second@example.com"));
+        ArgumentCaptor<SimpleMailMessage[]> sent = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+
+        // Act
+        emailService.sendEmails(emails);
+
+        // Assert
+        verify(javaMailSender, times(1)).send(sent.capture());
+        verify(javaMailSender, never()).send(any(SimpleMailMessage.class));
+        verify(emailRepository, never()).save(any(Email.class));
+        verify(emailRepository, times(1)).saveAll(argThat((List<Email> records) -> records.size() == 4
+                && records.stream().allMatch(record -> record.getStatusEmail() == StatusEmail.SENT)));
+        assertThat(sent.getValue()).hasSize(4);
+        assertThat(sent.getValue()[0].getTo()).containsExactly("first@example.com");
+        assertThat(sent.getValue()[1].getTo()).containsExactly("admin@example.com", "manager@example.com");
+    }
+
+    @Test
+    public void testSendEmails_MarksOnlyFailedMessages() {
+        // Arrange
+        Email first = email("first@example.com");
+        Email second = email("second@example.com");
+        doAnswer(invocation -> {
+            SimpleMailMessage[] messages = (SimpleMailMessage[]) invocation.getRawArguments()[0];
+            throw new MailSendException(Map.of(messages[2], new RuntimeException("Mailbox unavailable")));
+        }).when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        // Act
+        emailService.sendEmails(List.of(first, second));
+
+        // Assert
+        assertThat(first.getStatusEmail()).isEqualTo(StatusEmail.SENT);
+        assertThat(second.getStatusEmail()).isEqualTo(StatusEmail.ERROR);
+        assertThat(second.getSendDateEmail()).isNotNull();
+    }
+
+    @Test
+    public void testSendEmails_ConnectionFailureMarksAll() {
+        // Arrange
+        Email email = email("test@example.com");
+        doThrow(new MailSendException("Connection refused")).when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        // Act
+        emailService.sendEmails(List.of(email));
+
+        // Assert
+        verify(emailRepository, times(1)).saveAll(argThat((List<Email> records) ->
+                records.stream().allMatch(record -> record.getStatusEmail() == StatusEmail.ERROR)));
+        assertThat(email.getStatusEmail()).isEqualTo(StatusEmail.ERROR);
+    }
+
+    @Test
+    public void testSendEmails_DigestModeStagesNotifications() {
+        // Arrange
+        List<Email> emails = List.of(email("first@example.com"), email("second@example.com"));
+        when(notificationDigestService.isEnabled()).thenReturn(true);
+        when(notificationDigestService.stage(emails)).thenReturn(true);
+        ArgumentCaptor<SimpleMailMessage[]> sent = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+
+        // Act
+        emailService.sendEmails(emails);
+
+        // Assert
+        verify(javaMailSender).send(sent.capture());
+        verify(emailRepository).saveAll(argThat((List<Email> records) -> records.size() == 2));
+        assertThat(sent.getValue()).extracting(message -> message.getTo()[0])
+                .containsExactly("first@example.com", "second@example.com");
+    }
+
+    @Test
+    public void testSendEmails_FullDigestFallsBackToImmediateNotification() {
+        // Arrange
+        List<Email> emails = List.of(email("test@example.com"));
+        when(notificationDigestService.isEnabled()).thenReturn(true);
+        when(notificationDigestService.stage(emails)).thenReturn(false);
+        ArgumentCaptor<SimpleMailMessage[]> sent = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+
+        // Act
+        emailService.sendEmails(emails);
+
+        // Assert
+        verify(javaMailSender).send(sent.capture());
+        verify(emailRepository).saveAll(argThat((List<Email> records) -> records.size() == 2));
+        assertThat(sent.getValue()[1].getTo()).containsExactly("admin@example.com", "manager@example.com");
+    }
+
+    private static Email email(String emailTo) {
+        Email email = new Email();
+        email.setEmailTo(emailTo);
+        email.setSubject("Test Subject");
+        email.setText("Test Text");
+        return email;
+    }
 }
@@ -0,0 +1,175 @@
+package com.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.email.entity.Email;
+import com.email.entity.PendingNotification;
+import com.email.enums.StatusEmail;
+import com.email.repository.EmailRepository;
+import com.email.repository.PendingNotificationRepository;
+import com.email.service.NotificationDigestService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class NotificationDigestServiceTest {
+
+    private NotificationDigestService digestService;
+
+    @Mock
+    private PendingNotificationRepository pendingNotificationRepository;
+
+    @Mock
+    private EmailRepository emailRepository;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        digestService = new NotificationDigestService(
+                pendingNotificationRepository, emailRepository, javaMailSender, transactionManager);
+        ReflectionTestUtils.setField(digestService, "enabled", true);
+        ReflectionTestUtils.setField(digestService, "maxEvents", 3);
+        ReflectionTestUtils.setField(digestService, "capacity", 10L);
+        ReflectionTestUtils.setField(digestService, "emailFrom", "user@example.com");
+        ReflectionTestUtils.setField(digestService, "adminEmail", "admin@example.com");
+        ReflectionTestUtils.setField(digestService, "managerEmail", "manager@example.com");
+    }
+
+    @Test
+    public void testStage_BelowMaxEventsWaitsForInterval() {
+        // Arrange
+        when(pendingNotificationRepository.count()).thenReturn(0L);
+
+        // Act
+        boolean staged = digestService.stage(List.of(email("first@example.com")));
+
+        // Assert
+        assertThat(staged).isTrue();
+        verify(pendingNotificationRepository).saveAll(anyList());
+        verify(javaMailSender, never()).send(any(SimpleMailMessage.class));
+    }
+
+    @Test
+    public void testStage_ReachingMaxEventsLeavesDigestToFlusher() {
+        // Arrange
+        List<PendingNotification> pending = List.of(
+                new PendingNotification(email("first@example.com")),
+                new PendingNotification(email("second@example.com")),
+                new PendingNotification(email("third@example.com")));
+        when(pendingNotificationRepository.count()).thenReturn(2L);
+        when(pendingNotificationRepository.lockOldest(any(Pageable.class))).thenReturn(pending, List.of());
+        ArgumentCaptor<SimpleMailMessage> sent = ArgumentCaptor.forClass(SimpleMailMessage.class);
+
+        // Act
+        digestService.stage(List.of(email("third@example.com")));
+        verify(javaMailSender, never()).send(any(SimpleMailMessage.class));
+        digestService.flushWhenFull();
+
+        // Assert
+        verify(javaMailSender, times(1)).send(sent.capture());
+        verify(pendingNotificationRepository).deleteAllInBatch(pending);
+        assertThat(sent.getValue().getTo()).containsExactly("admin@example.com", "manager@example.com");
+        assertThat(sent.getValue().getSubject()).isEqualTo("3 New Reservations Created");
+        assertThat(sent.getValue().getText()).contains("first@example.com", "second@example.com", "third@example.com");
+    }
+
+    @Test
+    public void testStage_FullBufferIsRejected() {
+        // Arrange
+        when(pendingNotificationRepository.count()).thenReturn(10L);
+
+        // Act
+        boolean staged = digestService.stage(List.of(email("first@example.com")));
+
+        // Assert
+        assertThat(staged).isFalse();
+        verify(pendingNotificationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testFlushWhenFull_NothingStagedSendsNothing() {
+        // Act
+        digestService.flushWhenFull();
+
+        // Assert
+        verify(pendingNotificationRepository, never()).lockOldest(any(Pageable.class));
+    }
+
+    @Test
+    public void testStage_ConcurrentConsumersStayWithinCapacity() throws Exception {
+        // Arrange
+        AtomicLong rows = new AtomicLong();
+        when(pendingNotificationRepository.count()).thenAnswer(invocation -> rows.get());
+        when(pendingNotificationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<?> staged = invocation.getArgument(0);
+            Thread.sleep(5);
+            rows.addAndGet(staged.size());
+            return staged;
+        });
+        ExecutorService consumers = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(consumers.submit(() -> digestService.stage(List.of(email("user@example.com")))));
+        }
+        int staged = 0;
+        for (Future<Boolean> result : results) {
+            staged += result.get() ? 1 : 0;
+        }
+        consumers.shutdown();
+
+        // Assert
+        assertThat(staged).isEqualTo(10);
+        assertThat(rows.get()).isEqualTo(10L);
+    }
+
+    @Test
+    public void testFlush_FailedDigestKeepsNotifications() {
+        // Arrange
+        List<PendingNotification> pending = List.of(new PendingNotification(email("first@example.com")));
+        when(pendingNotificationRepository.lockOldest(any(Pageable.class))).thenReturn(pending);
+        doThrow(new MailException("Mail sending failed") {}).when(javaMailSender).send(any(SimpleMailMessage.class));
+
+        // Act
+        int sent = digestService.flush();
+
+        // Assert
+        assertThat(sent).isZero();
+        verify(pendingNotificationRepository, never()).deleteAllInBatch(any());
+        verify(emailRepository).save(argThat(email -> email.getStatusEmail() == StatusEmail.ERROR));
+    }
+
+    private static Email email(String emailTo) {
+        Email email = new Email();
+        email.setEmailTo(emailTo);
+        email.setSubject("Reserva Confirmada");
+        email.setText("Sua reserva foi confirmada com sucesso!");
+        return email;
+    }
+}